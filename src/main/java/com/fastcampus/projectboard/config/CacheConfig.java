@@ -0,0 +1,16 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Cache 활성화 (Caffeine 로컬 캐시) <br/>
+ * 캐시 이름, 최대 크기, TTL은 application.yaml의 spring.cache 에서 설정한다. <br/>
+ * recordStats 옵션으로 캐시 별 hit/miss 를 actuator metric 으로 노출한다. ex) /actuator/metrics/cache.gets?tag=cache:userAccounts&tag=result:hit
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_ACCOUNTS = "userAccounts"; // userId -> UserAccountDto
+}
@@ -0,0 +1,70 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 영역(region) 별 통계 actuator 엔드포인트 <br/>
+ * ex) GET /actuator/hibernatecache <br/>
+ * 통계는 hibernate.generate_statistics 가 켜져 있어야 집계된다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(regionName -> regionStatistics(statistics, regionName))
+                .filter(Objects::nonNull)
+                .forEach(region -> regions.put(region.region(), region));
+        return regions;
+    }
+
+    private static RegionStatistics regionStatistics(Statistics statistics, String regionName) {
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+        return region == null ? null : RegionStatistics.of(
+                regionName,
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory()
+        );
+    }
+
+    /**
+     * @param hitRatio hit / (hit + miss) - 조회가 없었다면 0
+     * @param elementCountInMemory 캐시된 엔트리 수 (provider가 지원하지 않으면 음수)
+     */
+    public record RegionStatistics(
+            String region,
+            long hitCount,
+            long missCount,
+            long putCount,
+            double hitRatio,
+            long elementCountInMemory
+    ) {
+
+        public static RegionStatistics of(String region, long hitCount, long missCount, long putCount, long elementCountInMemory) {
+            long requestCount = hitCount + missCount;
+            double hitRatio = requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+            return new RegionStatistics(region, hitCount, missCount, putCount, hitRatio, elementCountInMemory);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 당 SQL 문장 수 측정 설정 <br/>
+ * QueryCounter를 Hibernate StatementInspector로 등록하고, 요청이 끝날 때 실행된 문장 수를 debug 로그로 남긴다. <br/>
+ * ex) [GET /articles/1] SQL statements: 2
+ */
+@Slf4j
+@Configuration
+public class QueryCountConfig implements WebMvcConfigurer {
+
+    private final QueryCounter queryCounter = new QueryCounter();
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return queryCounter;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                queryCounter.start();
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                long count = queryCounter.stop();
+                log.debug("[{} {}] SQL statements: {}", request.getMethod(), request.getRequestURI(), count);
+            }
+        });
+    }
+}
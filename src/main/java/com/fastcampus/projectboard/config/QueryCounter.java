@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문장 수를 스레드(요청) 단위로 센다. <br/>
+ * StatementInspector는 모든 SQL이 JDBC로 넘어가기 직전에 호출된다. <br/>
+ * start() ~ stop() 사이에 현재 스레드에서 실행된 문장 수를 알 수 있다. (N+1 확인용)
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<long[]> counter = new ThreadLocal<>(); // StatementInspector 가 Serializable 이라서 직렬화 대상에서 뺀다.
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = counter.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql; // SQL은 변경하지 않는다.
+    }
+
+    public void start() {
+        counter.set(new long[1]);
+    }
+
+    /**
+     * @return start() 이후 실행된 SQL 문장 수 (start() 하지 않았다면 0)
+     */
+    public long count() {
+        long[] count = counter.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public long stop() {
+        long count = count();
+        counter.remove();
+        return count;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 렌더링 페이지 캐시 필터 등록 <br/>
+ * 비로그인 사용자인지 판단하려면 인증 정보가 필요하므로, Spring Security 필터 체인 바로 뒤에 등록한다. <br/>
+ * 캐시할 페이지에 어떤 게시글이 렌더링되는지는 컨트롤러가 채운 모델("articles")에서 인터셉터로 기록한다.
+ */
+@Configuration
+public class RenderedPageCacheConfig implements WebMvcConfigurer {
+
+    @Bean
+    public RenderedPageCacheFilter renderedPageCacheFilter() {
+        return new RenderedPageCacheFilter();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilterRegistration(RenderedPageCacheFilter renderedPageCacheFilter) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(renderedPageCacheFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+                if (modelAndView != null) {
+                    RenderedPageCacheFilter.recordArticleIds(request, modelAndView.getModel().get("articles"));
+                }
+            }
+        }).addPathPatterns(RenderedPageCacheFilter.CACHEABLE_PATHS.toArray(String[]::new));
+    }
+}
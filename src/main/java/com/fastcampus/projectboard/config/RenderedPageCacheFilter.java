@@ -0,0 +1,206 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.response.ArticleResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 렌더링된 게시글 목록 페이지 캐시 <br/>
+ * 비로그인 사용자의 GET /articles, /articles/search-hashtag 응답 HTML을 (경로, 정렬된 쿼리 파라미터) 별로 메모리에 보관하고,
+ * 같은 요청이 오면 컨트롤러/Thymeleaf 렌더링 없이 그대로 응답한다. <br/>
+ * 페이지마다 렌더링한 게시글 ID를 함께 보관하고, 게시글 수정이나 댓글 생성/삭제는 그 게시글이 있는 페이지만 비운다. <br/>
+ * 게시글 생성/삭제는 모든 목록의 페이지 구성을 밀어내므로 전부 비운다. <br/>
+ * 로그인 사용자의 페이지와 게시글 상세(로그인 필요)는 작성자 버튼, CSRF 토큰 등 사용자 별 내용이 있으므로 캐시하지 않는다. <br/>
+ * 응답 헤더 X-Page-Cache: HIT / MISS 로 캐시 사용 여부를 확인할 수 있다.
+ */
+public class RenderedPageCacheFilter extends OncePerRequestFilter implements MeterBinder {
+
+    static final Set<String> CACHEABLE_PATHS = Set.of("/articles", "/articles/search-hashtag");
+    static final Duration TTL = Duration.ofSeconds(60); // 인기 해시태그 갱신 주기와 같다.
+    static final long MAXIMUM_WEIGHT = 32L * 1024 * 1024; // HTML 32MB
+    static final String CACHE_HEADER = "X-Page-Cache";
+    static final String ARTICLE_IDS_ATTRIBUTE = RenderedPageCacheFilter.class.getName() + ".articleIds";
+    private static final Set<String> COMMENT_SORT_PROPERTIES = Set.of("commentCount", "lastCommentedAt"); // 댓글로 바뀌는 정렬 속성
+    private static final Set<String> FIXED_SORT_PROPERTIES = Set.of("createdAt", "id"); // 게시글 수정으로 바뀌지 않는 정렬 속성
+
+    private final AuthenticationTrustResolver authenticationTrustResolver = new AuthenticationTrustResolverImpl();
+    private final AtomicLong generation = new AtomicLong(); // 캐시를 (일부라도) 비울 때마다 증가
+    private final Cache<String, RenderedPage> pages = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT)
+            .weigher((String key, RenderedPage page) -> page.body().length)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATHS.contains(request.getRequestURI())
+                || !isAnonymous(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        RenderedPage cached = pages.getIfPresent(key);
+        if (cached != null) {
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        long currentGeneration = generation.get();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        filterChain.doFilter(request, wrapper);
+
+        if (isCacheable(wrapper) && request.getAttribute(ARTICLE_IDS_ATTRIBUTE) instanceof Set<?> articleIds) {
+            RenderedPage page = RenderedPage.of(request, wrapper.getContentType(), wrapper.getContentAsByteArray(), articleIds);
+            pages.put(key, page);
+            if (generation.get() != currentGeneration) { // 렌더링하는 동안 캐시가 (일부라도) 비워졌다면 오래된 페이지일 수 있다.
+                pages.asMap().remove(key, page);
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 게시글 생성/삭제는 모든 목록의 순서와 페이지 수를 바꾸므로 전부 비운다. <br/>
+     * 게시글 수정은 그 게시글이 있는 페이지와, 검색어/해시태그 검색 또는 제목 등 게시글 내용으로 정렬한 페이지(다른 게시글이 새로 들어올 수 있다.)만 비운다. <br/>
+     * 댓글 생성/삭제는 그 게시글이 있는 페이지와 댓글 수/마지막 댓글 일시로 정렬한 페이지만 비운다. 댓글 수정은 목록에 보이지 않으므로 무시한다. <br/>
+     * outbox 릴레이가 발행한 (커밋된) 변경만 받으므로 롤백된 변경으로 캐시가 비워지지 않고, 다른 인스턴스의 변경으로도 비워진다.
+     */
+    @EventListener
+    public void onOutboxBatch(OutboxBatch batch) {
+        List<ArticleEvent> articleEvents = batch.eventsOf(ArticleEvent.class);
+        List<ArticleCommentEvent> commentEvents = batch.eventsOf(ArticleCommentEvent.class).stream()
+                .filter(event -> event.eventType() != EventType.UPDATED)
+                .toList();
+        if (articleEvents.stream().anyMatch(event -> event.eventType() != EventType.UPDATED)
+                || commentEvents.stream().anyMatch(event -> event.articleId() == null)) { // 게시글 ID가 없는 (이전 형식의) 삭제 이벤트
+            invalidate();
+            return;
+        }
+        if (articleEvents.isEmpty() && commentEvents.isEmpty()) { return; }
+
+        Set<Long> updatedArticleIds = articleEvents.stream().map(ArticleEvent::articleId).collect(Collectors.toSet());
+        Set<Long> commentedArticleIds = commentEvents.stream().map(ArticleCommentEvent::articleId).collect(Collectors.toSet());
+        generation.incrementAndGet();
+        pages.asMap().values().removeIf(page ->
+                (!updatedArticleIds.isEmpty() && (page.dependsOnArticleFields() || page.containsAny(updatedArticleIds)))
+                        || (!commentedArticleIds.isEmpty() && (page.sortedByComments() || page.containsAny(commentedArticleIds)))
+        );
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    /**
+     * 목록 페이지에 렌더링할 게시글 ID를 요청 속성으로 남긴다. (RenderedPageCacheConfig 의 인터셉터가 컨트롤러 처리 직후 호출한다.) <br/>
+     * 요청 속성이 없는 응답은 어느 게시글이 바뀌었을 때 비워야 하는지 알 수 없으므로 캐시하지 않는다.
+     * @param articles 모델의 "articles" 속성 (ArticleResponse 의 Page/Slice)
+     */
+    public static void recordArticleIds(HttpServletRequest request, Object articles) {
+        if (!(articles instanceof Iterable<?> iterable)) { return; }
+        Set<Long> articleIds = new HashSet<>();
+        for (Object article : iterable) {
+            if (!(article instanceof ArticleResponse response)) { return; }
+            articleIds.add(response.id());
+        }
+        request.setAttribute(ARTICLE_IDS_ATTRIBUTE, articleIds);
+    }
+
+    /**
+     * 렌더링 페이지 캐시의 hit/miss, 크기 metric ex) /actuator/metrics/cache.gets?tag=cache:renderedPages&tag=result:hit
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, "renderedPages");
+    }
+
+    private boolean isAnonymous(Authentication authentication) {
+        return authentication == null || authenticationTrustResolver.isAnonymous(authentication);
+    }
+
+    /**
+     * 정상 HTML 응답이고, 세션 쿠키 등 사용자 별 헤더가 없을 때만 캐시한다.
+     */
+    private boolean isCacheable(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpStatus.OK.value()
+                && response.getContentType() != null
+                && response.getContentType().startsWith("text/html")
+                && response.getHeaders(HttpHeaders.SET_COOKIE).isEmpty();
+    }
+
+    /**
+     * 경로 + 이름순으로 정렬한 쿼리 파라미터 <br/>
+     * ex) /articles?page=1&sort=title 과 /articles?sort=title&page=1 은 같은 키가 된다.
+     */
+    static String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> key.append('&').append(name).append('=').append(Arrays.toString(values)));
+        return key.toString();
+    }
+
+    /**
+     * @param articleIds 페이지에 렌더링한 게시글 ID
+     * @param dependsOnArticleFields 검색어, 해시태그 검색, 제목 등 게시글 내용으로 목록이 정해지는 페이지 (목록에 없는 게시글이 수정되어도 바뀔 수 있다.)
+     * @param sortedByComments 댓글 수/마지막 댓글 일시로 정렬한 페이지 (목록에 없는 게시글에 댓글이 달려도 바뀔 수 있다.)
+     */
+    private record RenderedPage(String contentType, byte[] body, Set<?> articleIds, boolean dependsOnArticleFields, boolean sortedByComments) {
+
+        static RenderedPage of(HttpServletRequest request, String contentType, byte[] body, Set<?> articleIds) {
+            Set<String> sortProperties = Arrays.stream(Optional.ofNullable(request.getParameterValues("sort")).orElse(new String[0]))
+                    .map(sort -> sort.split(",")[0])
+                    .collect(Collectors.toSet());
+            boolean dependsOnArticleFields = StringUtils.hasText(request.getParameter("searchValue"))
+                    || !"/articles".equals(request.getRequestURI())
+                    || sortProperties.stream().anyMatch(property -> !FIXED_SORT_PROPERTIES.contains(property) && !COMMENT_SORT_PROPERTIES.contains(property));
+            boolean sortedByComments = sortProperties.stream().anyMatch(COMMENT_SORT_PROPERTIES::contains);
+            return new RenderedPage(contentType, body, Set.copyOf(articleIds), dependsOnArticleFields, sortedByComments);
+        }
+
+        boolean containsAny(Set<Long> ids) {
+            return ids.stream().anyMatch(articleIds::contains);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (ex: 게시글 수 카운터 보정)
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
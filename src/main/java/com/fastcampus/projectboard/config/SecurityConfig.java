@@ -1,8 +1,7 @@
 package com.fastcampus.projectboard.config;
 
-import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
-import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.UserAccountService;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,7 +28,8 @@ public class SecurityConfig {
                                 HttpMethod.GET, // POST - 추가/수정/삭제에 대한 권한체킹을 한다.
                                 "/",
                                 "/articles",
-                                "/articles/search-hashtag"
+                                "/articles/search-hashtag",
+                                "/articles/hashtags/suggest"
                         ).permitAll() // 위 mvcMatcher에 대한 전체 허용
                         .anyRequest().authenticated() // 그 외 나머지 어떠한 요청에도 인증이 되어야만 하도록 설정
                 ) //어떤 요청이든 인가 허용
@@ -62,11 +62,11 @@ public class SecurityConfig {
     /**
      * 보안, 인증, 사용자정보를 가져온다
      * UserDetailsService의 loadUseerByUsername()의 람다식을 반환한다.
+     * 회원 정보는 UserAccountService의 캐시를 거쳐 조회한다.
      */
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
-        return username -> userAccountRepository.findById(username)
-                .map(UserAccountDto::from)
+    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
+        return username -> userAccountService.searchUser(username)
                 .map(BoardPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다 - username: " + username));
     }
@@ -1,10 +1,12 @@
 package com.fastcampus.projectboard.controller;
 
 
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
 import com.fastcampus.projectboard.request.ArticleCommentRequest;
 import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.writebehind.ArticleCommentWriteBehind;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -17,11 +19,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequiredArgsConstructor
 public class ArticleCommentController {
     private final ArticleCommentService articleCommentService;
+    private final ArticleCommentWriteBehind articleCommentWriteBehind;
 
+    /**
+     * write-behind 모드라면 트랜잭션 없이 저널에 기록만 하고 바로 응답한다. (큐가 가득 차면 503)
+     */
     @PostMapping("/new")
     public String postNewArticleComment(ArticleCommentRequest articleCommentRequest
             , @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
-        articleCommentService.saveArticleComment(articleCommentRequest.toDto(boardPrincipal.toDto()));
+        ArticleCommentDto dto = articleCommentRequest.toDto(boardPrincipal.toDto());
+        if (articleCommentWriteBehind.isAccepting()) {
+            articleCommentWriteBehind.submit(dto);
+        } else {
+            articleCommentService.saveArticleComment(dto);
+        }
         return "redirect:/articles/" + articleCommentRequest.articleId();
 
     }
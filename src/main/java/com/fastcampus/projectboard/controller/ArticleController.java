@@ -1,26 +1,43 @@
 package com.fastcampus.projectboard.controller;
 
 import com.fastcampus.projectboard.domain.constant.FormStatus;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.CursorPage;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
 import com.fastcampus.projectboard.request.ArticleRequest;
 import com.fastcampus.projectboard.response.ArticleResponse;
+import com.fastcampus.projectboard.response.HashtagSuggestionResponse;
 import com.fastcampus.projectboard.response.ArticleWithCommentsResponse;
 import com.fastcampus.projectboard.service.ArticleService;
 import com.fastcampus.projectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -41,9 +58,19 @@ public class ArticleController {
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String slice,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap modelMap
     ) {
+        if (after != null || before != null) { // 커서 파라미터가 있다면 (비어있더라도) keyset 페이지네이션 모드
+            return articlesByCursor(searchType, searchValue, after, before, pageable.getPageSize(), modelMap);
+        }
+        if (slice != null) { // ?slice 파라미터가 있다면 count 쿼리 없는 Slice 모드
+            return articlesBySlice(searchType, searchValue, pageable, modelMap);
+        }
+
         // map을 통해 Article에 대한 모든 정보를 반환용으로만 추출해서 넘긴다.
 
         Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
@@ -55,31 +82,124 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * keyset 페이지네이션 모드 <br/>
+     * 전체 페이지 수를 모르므로 페이지 번호 대신 이전/다음 링크만 보여준다. (?before= / ?after=) <br/>
+     * 정렬은 createdAt DESC, id DESC 로 고정되며, 헤더의 정렬 링크는 offset 모드로 돌아간다.
+     */
+    private String articlesByCursor(SearchType searchType, String searchValue, String after, String before, int size, ModelMap modelMap) {
+        CursorPage<ArticleResponse> articles = articleService.searchArticlesByCursor(
+                searchType, searchValue, parseCursor(after), parseCursor(before), size
+        ).map(ArticleResponse::from);
+
+        // 목록/헤더 영역은 offset 모드와 같은 템플릿을 사용하므로 Slice 형태로 넘긴다.
+        modelMap.addAttribute("articles", new SliceImpl<>(articles.content(), PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")), articles.hasNext()));
+        modelMap.addAttribute("cursorPaging", true);
+        modelMap.addAttribute("previousCursor", articles.previousCursor());
+        modelMap.addAttribute("nextCursor", articles.nextCursor());
+        modelMap.addAttribute("searchTypes", SearchType.values());
+        return "articles/index";
+    }
+
+    /**
+     * 쿼리 파라미터의 커서를 해석한다. <br/>
+     * 직접 고친 주소처럼 형식이 맞지 않는 커서는 500 대신 400(Bad Request)으로 응답한다.
+     */
+    private ArticleCursor parseCursor(String cursor) {
+        try {
+            return ArticleCursor.parse(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Slice 모드 <br/>
+     * 전체 개수를 세지 않으므로 페이지 번호 대신 이전/다음 링크만 보여준다. (?slice&page=)
+     */
+    private String articlesBySlice(SearchType searchType, String searchValue, Pageable pageable, ModelMap modelMap) {
+        Slice<ArticleResponse> articles = articleService.searchArticleSlice(searchType, searchValue, pageable).map(ArticleResponse::from);
+
+        modelMap.addAttribute("articles", articles);
+        modelMap.addAttribute("slicePaging", true);
+        modelMap.addAttribute("searchTypes", SearchType.values());
+        return "articles/index";
+    }
+
+    /**
+     * 게시글 상세 <br/>
+     * 댓글은 한 페이지씩 보여주며, ?commentCursor= 로 다음 댓글 페이지를 조회한다. (커서 없이 다시 요청하면 최신 댓글 페이지) <br/>
+     * 조건부 요청(If-None-Match)을 지원한다. 게시글과 댓글이 바뀌지 않았다면 상세 조회와 렌더링 없이 304로 응답한다. <br/>
+     * 댓글 삭제는 어떤 수정 일시도 바꾸지 않으므로 Last-Modified(If-Modified-Since)는 쓰지 않고 ETag로만 판단한다.
+     */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap modelMap) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(@PathVariable Long articleId,
+                          @RequestParam(required = false) String commentCursor,
+                          CsrfToken csrfToken,
+                          ServletWebRequest webRequest,
+                          ModelMap modelMap
+    ) {
+        ArticleCursor cursor = parseCursor(commentCursor);
+        ArticleVersionDto version = articleService.getArticleVersion(articleId);
+        long totalCount = articleService.getArticleCount();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue()); // 사용자 별 화면 - 공유 캐시 금지, 매번 재검증
+        if (webRequest.checkNotModified(articleETag(version, totalCount, webRequest.getRemoteUser(), csrfToken))) {
+            return null; // 304 Not Modified
+        }
+
+        ArticleWithCommentsDto dto = articleService.getArticleWithComments(articleId, cursor);
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(dto);
         modelMap.addAttribute("article", article);
         modelMap.addAttribute("articleComments", article.articleCommentsResponses());
-        modelMap.addAttribute("totalCount", articleService.getArticleCount());
+        modelMap.addAttribute("nextCommentCursor", dto.nextCommentCursor());
+        modelMap.addAttribute("commentPaging", cursor != null); // 첫 댓글 페이지가 아니라면 최신 댓글로 돌아가는 링크를 보여준다.
+        modelMap.addAttribute("totalCount", totalCount);
         return "articles/detail";
     }
 
+    /**
+     * 상세 화면의 ETag <br/>
+     * 게시글/댓글 변경 외에도 이전/다음글 링크(전체 게시글 수)와 작성자 버튼(로그인 사용자)에 따라 화면이 달라지므로 함께 반영한다. <br/>
+     * 댓글/삭제/수정 form 에는 CSRF 토큰이 들어가므로, 다시 로그인해서 토큰이 바뀌면 예전 화면(예전 토큰)을 재사용하지 않도록 토큰도 반영한다.
+     */
+    private String articleETag(ArticleVersionDto version, long totalCount, String userId, CsrfToken csrfToken) {
+        String source = version.articleId() + ":" + version.version() + ":" + version.commentCount() + ":" + version.commentModifiedAt()
+                + ":" + totalCount + ":" + userId + ":" + (csrfToken == null ? null : csrfToken.getToken());
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(@RequestParam(required = false) String searchValue,
+                                @RequestParam(defaultValue = "NAME") HashtagSort hashtagSort, // 해시태그 목록 정렬 (이름순/인기순)
                                 @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
                                 ModelMap modelMap
     ) {
         Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashtags();
+        List<String> hashtags = articleService.getHashtags(hashtagSort);
 
         modelMap.addAttribute("articles", articles);
         modelMap.addAttribute("hashtags", hashtags);
+        modelMap.addAttribute("trendingHashtags", articleService.getTrendingHashtags());
         modelMap.addAttribute("paginationBarNumbers", barNumbers);
         modelMap.addAttribute("searchType", SearchType.HASHTAG);
         return "articles/search-hashtag";
     }
 
+    /**
+     * 해시태그 자동완성 (JSON) <br/>
+     * ex) GET /articles/hashtags/suggest?prefix=#ja&size=10
+     */
+    @ResponseBody
+    @GetMapping("/hashtags/suggest")
+    public List<HashtagSuggestionResponse> suggestHashtags(@RequestParam(required = false) String prefix,
+                                                           @RequestParam(defaultValue = "10") int size
+    ) {
+        return articleService.suggestHashtags(prefix, size).stream()
+                .map(HashtagSuggestionResponse::from)
+                .toList();
+    }
+
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
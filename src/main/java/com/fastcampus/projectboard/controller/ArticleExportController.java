@@ -0,0 +1,39 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.domain.constant.ExportFormat;
+import com.fastcampus.projectboard.service.exporter.ArticleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * /articles/export?format=NDJSON|CSV&withComments=true <br/>
+ * 전체 게시글(과 댓글)을 한 번의 요청으로 내려받는다. 페이지 단위의 /api/articles 와 달리 응답 스트림에 바로 쓰므로 게시글 수와 상관없이 메모리 사용량이 일정하다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/articles")
+@Controller
+public class ArticleExportController {
+
+    private final ArticleExportService articleExportService;
+
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                       @RequestParam(defaultValue = "false") boolean withComments,
+                       HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("articles." + format.getExtension()).build().toString());
+        articleExportService.export(format, withComments, response.getOutputStream());
+    }
+}
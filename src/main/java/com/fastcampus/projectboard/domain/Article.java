@@ -1,12 +1,17 @@
 package com.fastcampus.projectboard.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 @ToString(callSuper = true) // 부모 필드까지 Tostring 적용
@@ -16,23 +21,44 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable // 2차 캐시 대상 (ENABLE_SELECTIVE - @Cacheable 엔티티만 캐시한다. 영역 설정: ehcache.xml)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class Article extends AuditingFields {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) //MySql의 자동증가값은 IDENTITY방식이다.
+    /*
+     * IDENTITY는 insert 마다 즉시 실행해야 ID를 알 수 있어서 JDBC batch insert가 꺼진다. <br/>
+     * MySQL에는 sequence가 없으므로 id_generator 테이블에서 50개씩 ID를 미리 할당받는다. (pooled-lo 최적화 - application.yaml)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article", allocationSize = 50)
     private Long id;
 
     /* setter를 긱 필드레벨에 건 이유는 사용자가 특정필드에 접근한 세팅을 하지 못하게끔 막기 위해 (ex: id와 created의 경우 자동값 부여이므로) */
     @Setter @ManyToOne(optional = false) @JoinColumn(name="userId") private UserAccount userAccount; //유저 정보(ID)
-    @Setter @Column(nullable = false) private String title; // 제목
-    @Setter @Column(nullable = false, length = 10000) private String content; // 본문
-    @Setter private String hashtag; // 해시태그
+    @Column(nullable = false) private String title; // 제목
+    @Column(nullable = false, length = 10000) private String content; // 본문
+    private String hashtag; // 대표 해시태그 (입력값 그대로)
+
+    /* 수정될 때마다 증가 - 낙관적 잠금, 조건부 요청(ETag)에 사용한다. data.sql로 넣은 행은 0부터 시작한다. */
+    @Version @ColumnDefault("0") @Column(nullable = false) private Long version;
 
     /* 한번만 세팅하기 때문에 final 키워드 사용 가능 양방향 바인딩을 하게되면 강결합 특성때문에 실무에서는 푸는경우가 많다 */
     @ToString.Exclude //circural reference 문제 (순환참조문제)
     @OrderBy("createdAt DESC") //정렬 기준
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 컬렉션 캐시 (댓글 ID 목록) - 댓글 저장/삭제 시 auto_evict_collection_cache 로 무효화
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
+    /**
+     * 해시태그 색인 - 제목, 본문, 해시태그 필드가 바뀔 때마다 다시 추출한다. (직접 수정하지 않는다.) <br/>
+     * orphanRemoval: 더 이상 등장하지 않는 해시태그 행은 삭제된다.
+     */
+    @ToString.Exclude
+    @JsonIgnore // 지연 로딩 컬렉션 - REST 응답에는 hashtag 필드만 노출한다.
+    @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, orphanRemoval = true)
+    private final Set<ArticleHashtag> articleHashtags = new LinkedHashSet<>();
+
 
     /**
      * Entity 기본생성자 <br/>
@@ -54,6 +80,7 @@ public class Article extends AuditingFields {
         this.title = title;
         this.content = content;
         this.hashtag = hashtag;
+        refreshHashtags();
     }
 
     /**
@@ -70,6 +97,41 @@ public class Article extends AuditingFields {
         return new Article(userAccount, title, content, hashtag);
     }
 
+    public void setTitle(String title) {
+        this.title = title;
+        refreshHashtags();
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        refreshHashtags();
+    }
+
+    public void setHashtag(String hashtag) {
+        this.hashtag = hashtag;
+        refreshHashtags();
+    }
+
+    /**
+     * @return 해시태그 필드, 제목, 본문에서 추출한 정규화된 해시태그
+     */
+    public Set<String> getHashtags() {
+        return articleHashtags.stream()
+                .map(ArticleHashtag::getHashtagName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * 해시태그 색인 동기화 <br/>
+     * 변경된 해시태그만 삭제/추가 한다. (유지되는 해시태그 행은 그대로 둔다.)
+     */
+    private void refreshHashtags() {
+        Set<String> hashtags = HashtagParser.parse(hashtag, title, content);
+        articleHashtags.removeIf(articleHashtag -> !hashtags.contains(articleHashtag.getHashtagName()));
+        getHashtags().forEach(hashtags::remove);
+        hashtags.forEach(hashtagName -> articleHashtags.add(ArticleHashtag.of(this, hashtagName)));
+    }
+
     /**
      * Accept subclasses as parameter to equals() method 체크한다.
      * @param o
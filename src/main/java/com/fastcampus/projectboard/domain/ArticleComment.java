@@ -3,6 +3,9 @@ package com.fastcampus.projectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import javax.persistence.*;
 import java.util.Objects;
@@ -12,13 +15,17 @@ import java.util.Objects;
 @Table(indexes = { /* 빠르게 서칭이 가능하게끔 인덱스 설정 */
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
+        @Index(columnList = "article_id, createdAt"), // 게시글별 댓글 keyset 페이지네이션
         @Index(columnList = "createdBy")
 })
 @EntityListeners(AuditingEntityListener.class) // Auditing동작 어노테이션 필수다!
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class ArticleComment extends AuditingFields {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //MySql의 자동증가값은 IDENTITY방식이다.
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_comment_id") // batch insert를 위해 id_generator 테이블에서 ID를 미리 할당받는다.
+    @TableGenerator(name = "article_comment_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article_comment", allocationSize = 50)
     private Long id;
 
     @Setter @ManyToOne(optional = false) @JoinColumn(name="userId") private UserAccount userAccount; //유저 정보(ID)
@@ -26,6 +33,7 @@ public class ArticleComment extends AuditingFields {
     @Setter @ManyToOne(optional = false) // optional하지않는다.(필수값 - innerJoin)
     private Article article; // 게시글 (ID)
     @Setter @Column(nullable = false, length = 500) private String content; // 본문
+    @Version @ColumnDefault("0") @Column(nullable = false) private Long version; // 수정될 때마다 증가 (낙관적 잠금, ETag)
 
     protected ArticleComment() {}
 
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * 게시글 - 해시태그 색인 테이블 (article_hashtag) <br/>
+ * 게시글의 해시태그 필드, 제목, 본문에서 추출한 해시태그를 게시글 당 여러개 저장한다. <br/>
+ * (hashtagName, article_id) 인덱스로 해시태그 검색을 LIKE 스캔 대신 인덱스 조회로 처리한다.
+ */
+@Getter
+@ToString
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"article_id", "hashtagName"}), // 게시글 당 같은 해시태그는 한 번만
+        indexes = @Index(columnList = "hashtagName, article_id") // 해시태그 -> 게시글 ID 조회
+)
+@Entity
+public class ArticleHashtag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_hashtag_id") // batch insert를 위해 id_generator 테이블에서 ID를 미리 할당받는다.
+    @TableGenerator(name = "article_hashtag_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article_hashtag", allocationSize = 50)
+    private Long id;
+
+    @ToString.Exclude
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    private Article article; // 게시글 (ID)
+
+    @Column(nullable = false, length = 50) private String hashtagName; // 정규화된 해시태그 (ex: #java)
+
+    protected ArticleHashtag() {}
+
+    private ArticleHashtag(Article article, String hashtagName) {
+        this.article = article;
+        this.hashtagName = hashtagName;
+    }
+
+    public static ArticleHashtag of(Article article, String hashtagName) {
+        return new ArticleHashtag(article, hashtagName);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleHashtag that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
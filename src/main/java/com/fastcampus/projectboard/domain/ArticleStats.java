@@ -0,0 +1,52 @@
+package com.fastcampus.projectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글 목록용 통계 테이블 (article_stats) - 게시글 당 한 행 <br/>
+ * 목록마다 article_comment 를 join/집계하지 않도록 댓글 저장/삭제 시 update 문으로 함께 증감한다. <br/>
+ * 댓글마다 바뀌는 값이므로 2차 캐시 대상인 Article 과 분리했다. (Article 을 bulk update 하면 Article 캐시 영역 전체와 article 테이블을 읽는 쿼리 캐시가 비워진다.) <br/>
+ * 2차 캐시 대상이 아니며, 행은 게시글의 첫 댓글이 저장될 때 만들어진다. 어긋난 값은 ArticleCommentService.reconcileCommentCounts() 가 보정한다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "commentCount"), // 목록 댓글 수 정렬
+        @Index(columnList = "lastCommentedAt") // 목록 최근 활동 정렬
+})
+@Entity
+public class ArticleStats {
+    @Id private Long articleId; // 게시글 ID (연관관계 없이 article.id 와 같은 값)
+
+    @Column(nullable = false) private Long commentCount; // 댓글 수
+    private LocalDateTime lastCommentedAt; // 마지막 댓글 작성 일시 (댓글이 없으면 null)
+
+    protected ArticleStats() {}
+
+    private ArticleStats(Long articleId, Long commentCount, LocalDateTime lastCommentedAt) {
+        this.articleId = articleId;
+        this.commentCount = commentCount;
+        this.lastCommentedAt = lastCommentedAt;
+    }
+
+    public static ArticleStats of(Long articleId, Long commentCount, LocalDateTime lastCommentedAt) {
+        return new ArticleStats(articleId, commentCount, lastCommentedAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleStats that)) return false;
+        return articleId != null && articleId.equals(that.getArticleId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(articleId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fastcampus.projectboard.domain;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시태그 추출/정규화 <br/>
+ * '#' 뒤에 이어지는 문자(한글 포함), 숫자, '_' 를 하나의 해시태그로 본다. (ex: "#Spring_Boot 공부" -> #spring_boot) <br/>
+ * 대소문자 구분 없이 검색할 수 있도록 소문자로 저장한다.
+ */
+public final class HashtagParser {
+
+    public static final int MAX_LENGTH = 50; // article_hashtag.hashtag_name 컬럼 길이
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+
+    private HashtagParser() {}
+
+    /**
+     * @param texts 해시태그를 찾을 문자열 (null 은 무시)
+     * @return 등장 순서대로 중복을 제거한 정규화된 해시태그
+     */
+    public static Set<String> parse(String... texts) {
+        Set<String> hashtags = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = HASHTAG_PATTERN.matcher(text);
+            while (matcher.find()) {
+                String hashtag = normalize(matcher.group(1));
+                if (hashtag.length() <= MAX_LENGTH) {
+                    hashtags.add(hashtag);
+                }
+            }
+        }
+        return hashtags;
+    }
+
+    /**
+     * 검색어를 저장 형태로 맞춘다. '#'이 없다면 붙인다. (ex: "Java" -> #java)
+     */
+    public static String normalize(String hashtag) {
+        String name = hashtag.strip().replaceFirst("^#+", "");
+        return "#" + name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.projectboard.domain;
+
+import com.fastcampus.projectboard.domain.constant.AggregateType;
+import com.fastcampus.projectboard.domain.constant.EventType;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 변경 이벤트 outbox 테이블 (outbox_event) <br/>
+ * 게시글/댓글을 변경하는 트랜잭션 안에서 함께 저장하므로, 커밋된 변경은 반드시 이벤트를 남기고 롤백된 변경은 남기지 않는다. <br/>
+ * id 가 이벤트의 순번(offset)이다. 변경 순서대로 증가해야 하므로 미리 할당받는 TABLE 전략 대신 insert 시점에 할당되는 IDENTITY 를 사용한다.
+ */
+@Getter
+@ToString
+@Table(indexes = @Index(columnList = "createdAt")) // 보관 기간이 지난 이벤트 삭제
+@Entity
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // offset
+
+    @Enumerated(EnumType.STRING) @Column(nullable = false, length = 20) private AggregateType aggregateType; // 이벤트 종류
+    @Column(nullable = false) private Long aggregateId; // 게시글/댓글 ID
+    @Enumerated(EnumType.STRING) @Column(nullable = false, length = 10) private EventType eventType;
+    @ToString.Exclude @Lob @Column(nullable = false) private String payload; // 이벤트 JSON
+    @Column(nullable = false, updatable = false) private LocalDateTime createdAt;
+
+    protected OutboxEvent() {}
+
+    private OutboxEvent(AggregateType aggregateType, Long aggregateId, EventType eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEvent of(AggregateType aggregateType, Long aggregateId, EventType eventType, String payload, LocalDateTime createdAt) {
+        return new OutboxEvent(aggregateType, aggregateId, eventType, payload, createdAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEvent that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
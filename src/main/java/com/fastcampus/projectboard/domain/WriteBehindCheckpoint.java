@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * 댓글 write-behind 체크포인트 (write_behind_checkpoint) - 저널 당 한 행 <br/>
+ * 묶음 저장 트랜잭션 안에서 마지막 저널 seq 를 함께 기록하므로, 커밋 뒤 저널 체크포인트 파일을 쓰기 전에 죽어도 기동 시 이미 저장한 댓글을 다시 저장하지 않는다.
+ */
+@Getter
+@ToString
+@Entity
+public class WriteBehindCheckpoint {
+    @Id @Column(length = 36) private String journalId; // 저널 ID (인스턴스마다 다르다.)
+
+    @Column(nullable = false) private Long seq; // 저장을 마친 마지막 저널 seq
+
+    protected WriteBehindCheckpoint() {}
+
+    private WriteBehindCheckpoint(String journalId, Long seq) {
+        this.journalId = journalId;
+        this.seq = seq;
+    }
+
+    public static WriteBehindCheckpoint of(String journalId, Long seq) {
+        return new WriteBehindCheckpoint(journalId, seq);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WriteBehindCheckpoint that)) return false;
+        return journalId != null && journalId.equals(that.getJournalId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum AggregateType {
+    ARTICLE("게시글"),
+    ARTICLE_COMMENT("댓글");
+
+    @Getter private final String description;
+
+    AggregateType(String description) {
+        this.description = description;
+    }
+}
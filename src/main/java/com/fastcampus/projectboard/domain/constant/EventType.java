@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum EventType {
+    CREATED("생성"),
+    UPDATED("수정"),
+    DELETED("삭제");
+
+    @Getter private final String description;
+
+    EventType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 게시글 내보내기 형식 <br/>
+ * NDJSON : 한 줄에 JSON 하나 (일괄 가져오기 파일과 같은 형식) <br/>
+ * CSV : 첫 줄은 헤더, 쉼표/따옴표/줄바꿈이 있는 값은 큰따옴표로 감싼다. (RFC 4180)
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    @Getter
+    private final String contentType;
+    @Getter
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
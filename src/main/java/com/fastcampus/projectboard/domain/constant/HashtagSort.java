@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum HashtagSort {
+    NAME("이름순"),
+    POPULAR("인기순");
+
+    @Getter
+    private final String description;
+
+    HashtagSort(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+public enum TrendingWindow {
+    HOUR("최근 1시간", Duration.ofHours(1)),
+    DAY("최근 24시간", Duration.ofDays(1)),
+    WEEK("최근 7일", Duration.ofDays(7));
+
+    @Getter private final String description;
+    @Getter private final Duration duration;
+
+    TrendingWindow(String description, Duration duration) {
+        this.description = description;
+        this.duration = duration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.domain.event;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.constant.EventType;
+
+/**
+ * 댓글 변경 이벤트 <br/>
+ * ArticleCommentService가 댓글을 생성/수정/삭제할 때 발행한다. (인기 해시태그 집계 등)
+ */
+public record ArticleCommentEvent(
+        EventType eventType,
+        Long articleCommentId,
+        Long articleId,
+        String content
+) {
+
+    public static ArticleCommentEvent of(EventType eventType, Long articleCommentId, Long articleId, String content) {
+        return new ArticleCommentEvent(eventType, articleCommentId, articleId, content);
+    }
+
+    public static ArticleCommentEvent created(ArticleComment entity) {
+        return of(EventType.CREATED, entity.getId(), entity.getArticle().getId(), entity.getContent());
+    }
+
+    /**
+     * 댓글은 읽지 않고 수정하므로 게시글 ID 없이 수정된 본문만 전달한다.
+     */
+    public static ArticleCommentEvent updated(Long articleCommentId, String content) {
+        return of(EventType.UPDATED, articleCommentId, null, content);
+    }
+
+    /**
+     * 삭제 이벤트는 본문 없이 댓글 ID와 게시글 ID만 전달한다. (게시글 ID는 목록 페이지 캐시가 해당 게시글이 있는 페이지만 비울 때 쓴다.)
+     */
+    public static ArticleCommentEvent deleted(Long articleCommentId, Long articleId) {
+        return of(EventType.DELETED, articleCommentId, articleId, null);
+    }
+}
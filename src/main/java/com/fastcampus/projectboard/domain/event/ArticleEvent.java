@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.domain.event;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.constant.EventType;
+
+/**
+ * 게시글 변경 이벤트 <br/>
+ * ArticleService가 게시글을 생성/수정/삭제할 때 발행한다. <br/>
+ * 검색 색인 등 게시글로부터 파생되는 자료구조는 이 이벤트를 구독하여 스스로를 갱신한다.
+ */
+public record ArticleEvent(
+        EventType eventType,
+        Long articleId,
+        String title,
+        String content,
+        String hashtag
+) {
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String title, String content, String hashtag) {
+        return new ArticleEvent(eventType, articleId, title, content, hashtag);
+    }
+
+    public static ArticleEvent created(Article entity) {
+        return of(EventType.CREATED, entity.getId(), entity.getTitle(), entity.getContent(), entity.getHashtag());
+    }
+
+    public static ArticleEvent updated(Article entity) {
+        return of(EventType.UPDATED, entity.getId(), entity.getTitle(), entity.getContent(), entity.getHashtag());
+    }
+
+    /**
+     * 삭제 이벤트는 게시글 ID만 전달한다. (삭제된 게시글의 내용은 구독자가 각자 가지고 있는 정보로 정리한다.)
+     */
+    public static ArticleEvent deleted(Long articleId) {
+        return of(EventType.DELETED, articleId, null, null, null);
+    }
+}
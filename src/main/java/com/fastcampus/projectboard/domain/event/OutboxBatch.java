@@ -0,0 +1,30 @@
+package com.fastcampus.projectboard.domain.event;
+
+import java.util.List;
+
+/**
+ * outbox 릴레이가 발행하는 이벤트 묶음 <br/>
+ * events 는 offset 순서이며 (fromOffset, toOffset] 구간의 커밋된 변경을 담는다. <br/>
+ * 앞서 빈 번호로 건너뛰었다가 늦게 커밋된 (fromOffset 이전의) 이벤트가 있다면 묶음의 맨 앞에 온다. <br/>
+ * 같은 이벤트가 다시 전달될 수 있으므로(at-least-once) 구독자는 같은 이벤트를 여러 번 받아도 결과가 같아야 한다.
+ */
+public record OutboxBatch(
+        long fromOffset,
+        long toOffset,
+        List<Object> events
+) {
+
+    public static OutboxBatch of(long fromOffset, long toOffset, List<Object> events) {
+        return new OutboxBatch(fromOffset, toOffset, events);
+    }
+
+    /**
+     * 묶음에서 주어진 종류의 이벤트만 순서대로 반환한다.
+     */
+    public <T> List<T> eventsOf(Class<T> type) {
+        return events.stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 게시글 목록(댓글 목록) keyset(seek) 페이지네이션 커서 <br/>
+ * 목록은 createdAt DESC, id DESC 로 정렬되며, 커서는 기준이 되는 게시글(댓글)의 (createdAt, id) 이다. <br/>
+ * 쿼리 파라미터로는 "createdAt,id" 형태의 문자열로 주고받는다. ex) ?after=2022-01-25T16:10:23,5
+ */
+public record ArticleCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = ",";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    public static ArticleCursor from(ArticleDto dto) {
+        return new ArticleCursor(dto.createdAt(), dto.id());
+    }
+
+    public static ArticleCursor from(ArticleSummaryDto dto) {
+        return new ArticleCursor(dto.createdAt(), dto.id());
+    }
+
+    public static ArticleCursor from(ArticleCommentDto dto) {
+        return new ArticleCursor(dto.createdAt(), dto.id());
+    }
+
+    /**
+     * @param value "createdAt,id" 문자열 (비어있다면 첫 페이지를 의미하므로 null 반환)
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static ArticleCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int delimiterIndex = value.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다 - cursor: " + value);
+        }
+        try {
+            return new ArticleCursor(
+                    LocalDateTime.parse(value.substring(0, delimiterIndex).trim()),
+                    Long.parseLong(value.substring(delimiterIndex + 1).trim())
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다 - cursor: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + DELIMITER + id;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 게시글 일괄 삭제 결과 - 테이블 별로 삭제된 행 수 <br/>
+ * 게시글이 없거나 작성자가 아니면 모두 0 이다.
+ */
+public record ArticleDeleteResultDto(
+        long articles,
+        long articleComments,
+        long articleHashtags
+) {
+
+    public static ArticleDeleteResultDto of(long articles, long articleComments, long articleHashtags) {
+        return new ArticleDeleteResultDto(articles, articleComments, articleHashtags);
+    }
+
+    public static ArticleDeleteResultDto none() {
+        return new ArticleDeleteResultDto(0, 0, 0);
+    }
+
+    public boolean isDeleted() {
+        return articles > 0;
+    }
+
+    public long rows() {
+        return articles + articleComments + articleHashtags;
+    }
+}
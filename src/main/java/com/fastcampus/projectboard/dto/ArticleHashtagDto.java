@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 해시태그 사전 생성용 DTO (article_hashtag 행 ID, 게시글 ID, 해시태그)
+ */
+public record ArticleHashtagDto(
+        Long id,
+        Long articleId,
+        String hashtag
+) {
+
+    public static ArticleHashtagDto of(Long id, Long articleId, String hashtag) {
+        return new ArticleHashtagDto(id, articleId, hashtag);
+    }
+}
@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 검색 색인 생성용 게시글 프로젝션 <br/>
+ * 색인에 필요한 컬럼만 조회하여 연관관계(UserAccount)나 댓글을 로딩하지 않는다.
+ */
+public record ArticleSearchDocument(
+        Long id,
+        String title,
+        String content
+) {
+    public static ArticleSearchDocument of(Long id, String title, String content) {
+        return new ArticleSearchDocument(id, title, content);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 DTO (projection) <br/>
+ * 목록 화면은 제목, 해시태그, 작성자, 작성일, 댓글 수, 마지막 댓글 일시만 보여주므로 본문(content)과 UserAccount 엔티티를 조회하지 않는다. <br/>
+ * QueryDSL Projections.constructor 로 필요한 컬럼만 select 해서 바로 생성한다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname,
+        Long commentCount,
+        LocalDateTime lastCommentedAt
+) {
+
+    public static ArticleSummaryDto of(Long id, String title, String hashtag, LocalDateTime createdAt, String userId, String nickname, Long commentCount, LocalDateTime lastCommentedAt) {
+        return new ArticleSummaryDto(id, title, hashtag, createdAt, userId, nickname, commentCount, lastCommentedAt);
+    }
+}
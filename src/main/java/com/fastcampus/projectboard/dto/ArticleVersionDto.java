@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 화면의 변경 여부 판단용 DTO <br/>
+ * 게시글 버전, 수정 일시와 댓글 수, 가장 최근 댓글 수정 일시 - 하나라도 바뀌면 상세 화면이 바뀐다.
+ */
+public record ArticleVersionDto(
+        Long articleId,
+        Long version,
+        LocalDateTime modifiedAt,
+        long commentCount,
+        LocalDateTime commentModifiedAt
+) {
+
+    public static ArticleVersionDto of(Long articleId, Long version, LocalDateTime modifiedAt, long commentCount, LocalDateTime commentModifiedAt) {
+        return new ArticleVersionDto(articleId, version, modifiedAt, commentCount, commentModifiedAt);
+    }
+}
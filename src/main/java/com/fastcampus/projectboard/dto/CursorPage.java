@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지네이션 결과 <br/>
+ * 전체 개수(count)를 세지 않으므로 페이지 번호 대신 이전/다음 페이지 커서만 제공한다.
+ * @param content 현재 페이지 (createdAt DESC, id DESC 순)
+ * @param previousCursor 더 최신 글이 있다면, 이전 페이지 조회에 쓸 커서 (?before=) - 없으면 null
+ * @param nextCursor 더 오래된 글이 있다면, 다음 페이지 조회에 쓸 커서 (?after=) - 없으면 null
+ */
+public record CursorPage<T>(
+        List<T> content,
+        ArticleCursor previousCursor,
+        ArticleCursor nextCursor
+) {
+
+    public static <T> CursorPage<T> of(List<T> content, ArticleCursor previousCursor, ArticleCursor nextCursor) {
+        return new CursorPage<>(content, previousCursor, nextCursor);
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null, null);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPage<>(content.stream().<R>map(converter).toList(), previousCursor, nextCursor);
+    }
+}
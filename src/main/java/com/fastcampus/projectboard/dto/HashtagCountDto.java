@@ -0,0 +1,15 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 해시태그와 집계 값 <br/>
+ * 자동완성은 해시태그가 달린 게시글 수, 인기 해시태그는 기간 내 사용 횟수
+ */
+public record HashtagCountDto(
+        String hashtag,
+        long count
+) {
+
+    public static HashtagCountDto of(String hashtag, long count) {
+        return new HashtagCountDto(hashtag, count);
+    }
+}
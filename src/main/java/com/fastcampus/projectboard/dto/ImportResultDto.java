@@ -0,0 +1,29 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.Duration;
+
+/**
+ * 일괄 가져오기 결과 (저장한 게시글/댓글 수, 건너뛴 줄 수, 소요 시간)
+ */
+public record ImportResultDto(
+        long articles,
+        long comments,
+        long skipped,
+        Duration elapsed
+) {
+
+    public static ImportResultDto of(long articles, long comments, long skipped, Duration elapsed) {
+        return new ImportResultDto(articles, comments, skipped, elapsed);
+    }
+
+    public long rows() {
+        return articles + comments;
+    }
+
+    /**
+     * 초당 저장한 행 수
+     */
+    public long rowsPerSecond() {
+        return elapsed.toMillis() == 0 ? rows() : rows() * 1000 / elapsed.toMillis();
+    }
+}
@@ -2,6 +2,7 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +16,7 @@ import java.util.List;
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>
+        , ArticleCommentRepositoryCustom
         , QuerydslPredicateExecutor<ArticleComment> // Generic 일반 T 는 Entity
         , QuerydslBinderCustomizer<QArticleComment> // Generic EntityPath를 상속받은 t 는 QClass
 {
@@ -28,7 +30,7 @@ public interface ArticleCommentRepository extends
      */
     List<ArticleComment> findByArticle_Id(Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+    List<ArticleComment> deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId); // 삭제한 댓글 (게시글 댓글 수 갱신용)
     /**
      * 해당 메소드를 통해 검색에 대한 세부 규칙을 추가
      */
@@ -1,12 +1,14 @@
 package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.HashtagParser;
 import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
@@ -44,9 +46,20 @@ public interface ArticleRepository extends
      */
     Page<Article> findByUserAccount_UserIdContaining(String searchKeyword, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String searchKeyword, Pageable pageable);
-    Page<Article> findByHashtag(String searchKeyword, Pageable pageable);
+    Page<Article> findByHashtag(String searchKeyword, Pageable pageable); // 대표 해시태그 필드 exact 매치 (여러 해시태그 검색은 ArticleService.searchArticlesViaHashtag)
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+    /**
+     * Slice 조회 - 전체 개수(count 쿼리) 없이 size + 1 개를 조회해서 다음 페이지 존재 여부만 판단한다. <br/>
+     * 전체 페이지 수가 필요 없는 무한 스크롤, API 클라이언트용 (/api/articles/search/findSliceBy...)
+     * @param title
+     * @param pageable
+     * @return
+     */
+    Slice<Article> findSliceByTitleContaining(String title, Pageable pageable);
+    Slice<Article> findSliceByContentContaining(String searchKeyword, Pageable pageable);
+    Slice<Article> findSliceByUserAccount_UserIdContaining(String searchKeyword, Pageable pageable);
+    Slice<Article> findSliceByUserAccount_NicknameContaining(String searchKeyword, Pageable pageable);
+    Slice<Article> findSliceByHashtag(String searchKeyword, Pageable pageable);
 
     /**
      * 해당 메소드를 통해 검색에 대한 세부 규칙을 추가한다.
@@ -66,7 +79,7 @@ public interface ArticleRepository extends
 //        bindings.bind(root.title).first(StringExpression::likeIgnoreCase); // like '${value}: 와일드카드 % 직접 넣는다.(수동옵션)'
         bindings.bind(root.title).first(StringExpression::containsIgnoreCase); // like '%${value}% : 대소문자 구분하지 않고 비교'
         bindings.bind(root.content).first(StringExpression::containsIgnoreCase); // like '%${value}% : 대소문자 구분하지 않고 비교'
-        bindings.bind(root.hashtag).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.hashtag).first((path, value) -> root.articleHashtags.any().hashtagName.eq(HashtagParser.normalize(value))); // 해시태그 색인 테이블 조회
         bindings.bind(root.createdAt).first(DateTimeExpression::eq); // DataType이 DateTime이다.
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
     }
@@ -0,0 +1,56 @@
+package com.fastcampus.projectboard.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.OptionalLong;
+
+/**
+ * article 테이블 통계 조회 <br/>
+ * MySQL(InnoDB)은 information_schema.tables 에 테이블의 추정 행 수(table_rows)를 가지고 있다. <br/>
+ * count(*) 처럼 테이블을 스캔하지 않으므로 빠르지만 실제 행 수와 차이가 있을 수 있다. (추정치)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class ArticleTableStatistics {
+
+    private static final String ESTIMATED_ROWS_QUERY =
+            "select table_rows from information_schema.tables where table_schema = database() and table_name = 'article'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean supported; // 최초 조회 시 DB 종류를 확인한다.
+
+    /**
+     * @return article 테이블의 추정 행 수 (통계를 지원하지 않는 DB 라면 empty)
+     */
+    public OptionalLong estimatedRowCount() {
+        if (!isSupported()) {
+            return OptionalLong.empty();
+        }
+        try {
+            Long rows = jdbcTemplate.queryForObject(ESTIMATED_ROWS_QUERY, Long.class);
+            return rows == null ? OptionalLong.empty() : OptionalLong.of(rows);
+        } catch (DataAccessException e) {
+            log.warn("게시글 테이블 통계 조회 실패 - {}", e.getLocalizedMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            try {
+                String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+                supported = "MySQL".equalsIgnoreCase(productName);
+            } catch (DataAccessException e) {
+                supported = false;
+            }
+        }
+        return supported;
+    }
+}
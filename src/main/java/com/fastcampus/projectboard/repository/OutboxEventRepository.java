@@ -0,0 +1,44 @@
+package com.fastcampus.projectboard.repository;
+
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * offset 이후의 이벤트를 offset 순서로 조회한다.
+     */
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long offset, Pageable pageable);
+
+    /**
+     * 건너뛰었던 빈 번호 중 (늦게) 커밋된 이벤트를 offset 순서로 조회한다.
+     */
+    List<OutboxEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select max(o.id) from OutboxEvent o")
+    Optional<Long> findLastOffset();
+
+    /**
+     * offset 이후에 커밋된 이벤트 ID (기동 시 빈 번호 확인용)
+     */
+    @Query("select o.id from OutboxEvent o where o.id > :offset")
+    List<Long> findIdsGreaterThan(@Param("offset") Long offset);
+
+    /**
+     * 보관 기간이 지난 이벤트를 delete 문 하나로 지운다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
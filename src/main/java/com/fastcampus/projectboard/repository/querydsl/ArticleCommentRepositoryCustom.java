@@ -0,0 +1,30 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 댓글 keyset 페이지네이션 - 게시글의 댓글을 커서보다 오래된 순으로 createdAt DESC, id DESC 조회한다. <br/>
+     * (article_id, createdAt) 인덱스를 seek 하므로 댓글이 많아도 필요한 만큼만 읽는다. 작성자는 fetch join 한다.
+     * @param cursor null 이면 첫 페이지
+     */
+    List<ArticleComment> findArticleCommentsAfter(Long articleId, ArticleCursor cursor, int limit);
+
+    /**
+     * 내보내기용 조회 - 여러 게시글의 댓글을 작성자와 함께 (게시글 id, createdAt, id) 오름차순으로 한 번에 조회한다.
+     */
+    List<ArticleComment> findArticleCommentsIn(Collection<Long> articleIds);
+
+    /**
+     * 댓글 수정 - 엔티티를 읽지 않고 update ... where id = ? and user_id = ? 한 문장으로 수정한다. <br/>
+     * version 증가와 modifiedAt/modifiedBy 기록(Auditing 대신)도 같은 문장에서 한다. <br/>
+     * native SQL 로 실행하고 수정한 댓글의 2차 캐시 항목만 지운다. (JPQL bulk update 는 댓글 캐시 영역 전체를 비운다.)
+     * @return 수정된 행 수 (작성자가 아니거나 댓글이 없으면 0)
+     */
+    long updateArticleComment(Long articleCommentId, String userId, String content);
+}
@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.domain.QUserAccount;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.querydsl.core.BooleanBuilder;
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class ArticleCommentRepositoryImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findArticleCommentsAfter(Long articleId, ArticleCursor cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder where = new BooleanBuilder(articleComment.article.id.eq(articleId));
+        if (cursor != null) { // (createdAt, id) < (cursor.createdAt, cursor.id)
+            where.and(articleComment.createdAt.lt(cursor.createdAt())
+                    .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id()))));
+        }
+
+        return getQuerydsl().createQuery(articleComment)
+                .setHint(QueryHints.CACHEABLE, true) // 쿼리 캐시 - 댓글 테이블이 바뀌면 무효화된다.
+                .select(articleComment)
+                .innerJoin(articleComment.userAccount, QUserAccount.userAccount).fetchJoin()
+                .where(where)
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleComment> findArticleCommentsIn(Collection<Long> articleIds) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return getQuerydsl().createQuery(articleComment)
+                .setHint(QueryHints.READ_ONLY, true)
+                .setHint(QueryHints.CACHE_MODE, CacheMode.IGNORE)
+                .select(articleComment)
+                .innerJoin(articleComment.userAccount, QUserAccount.userAccount).fetchJoin()
+                .where(articleComment.article.id.in(articleIds))
+                .orderBy(articleComment.article.id.asc(), articleComment.createdAt.asc(), articleComment.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public long updateArticleComment(Long articleCommentId, String userId, String content) {
+        long updated = BulkStatements.executeUpdate(getEntityManager(),
+                "update article_comment set content = ?1, version = version + 1, modified_at = ?2, modified_by = ?3 where id = ?4 and user_id = ?5",
+                content, LocalDateTime.now(), userId, articleCommentId, userId);
+        if (updated > 0) {
+            BulkStatements.evictEntities(getEntityManager(), ArticleComment.class, List.of(articleCommentId)); // 게시글의 댓글 ID 목록은 바뀌지 않는다.
+        }
+        return updated;
+    }
+}
@@ -1,7 +1,148 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDeleteResultDto;
+import com.fastcampus.projectboard.dto.ArticleHashtagDto;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ArticleRepositoryCustom {
     List<String> findByDistinctHashtags();
+
+    /**
+     * 게시글 상세 조회 - 작성자를 fetch join 해서 한 번의 쿼리로 조회한다. <br/>
+     * 댓글은 전체를 읽지 않고 ArticleCommentRepository 에서 keyset 으로 한 페이지씩 조회한다.
+     */
+    Optional<Article> findArticleWithUserAccount(Long articleId);
+
+    /**
+     * 게시글 상세의 변경 여부 판단용 조회 (조건부 요청) <br/>
+     * 본문과 댓글 내용은 읽지 않고 게시글 버전, 수정 일시와 댓글 수, 최근 댓글 수정 일시만 한 번의 쿼리로 집계한다.
+     */
+    Optional<ArticleVersionDto> findArticleVersion(Long articleId);
+
+    /**
+     * 존재하는 게시글 ID 조회 - 여러 게시글의 존재 여부를 한 번에 확인한다. (엔티티를 읽지 않는다.)
+     */
+    List<Long> findArticleIds(Collection<Long> articleIds);
+
+    /**
+     * 게시글 삭제 - 엔티티를 읽지 않고 댓글, 해시태그 색인, 통계, 게시글 순으로 테이블 별 delete 문 하나씩 실행한다. <br/>
+     * 작성자 확인은 게시글 행을 잠그는 조회의 조건으로 하므로, 확인과 삭제 사이에 댓글이 새로 달리지 않는다. <br/>
+     * bulk 연산이므로 영속성 컨텍스트에 이미 올라와 있는 게시글/댓글에는 반영되지 않는다. <br/>
+     * 게시글/댓글은 native SQL 로 지우고, 지운 행의 2차 캐시 항목과 쿼리 캐시 결과만 비운다. (다른 게시글/댓글의 캐시 항목은 그대로다.)
+     * @return 테이블 별 삭제된 행 수 (작성자가 아니거나 게시글이 없으면 모두 0)
+     */
+    ArticleDeleteResultDto deleteArticleCascade(Long articleId, String userId);
+
+    /**
+     * 게시글 수정 - 엔티티를 읽지 않고 update ... where id = ? and user_id = ? 한 문장으로 수정한다. <br/>
+     * 작성자 확인을 조건에 포함하고, version 증가와 modifiedAt/modifiedBy 기록(Auditing 대신)도 같은 문장에서 한다. <br/>
+     * title, content 가 null 이면 기존 값을 유지한다. 해시태그 색인은 replaceArticleHashtags 로 따로 갱신한다. <br/>
+     * native SQL 로 실행하고 수정한 게시글의 2차 캐시 항목만 지운다. (JPQL bulk update 는 게시글 캐시 영역 전체를 비운다.)
+     * @return 수정된 행 수 (작성자가 아니거나 게시글이 없으면 0)
+     */
+    long updateArticle(Long articleId, String userId, String title, String content, String hashtag);
+
+    /**
+     * 해시태그 색인 교체 - 게시글의 색인 행을 delete 문 하나로 지우고 새 해시태그를 batch insert 한다.
+     */
+    void replaceArticleHashtags(Long articleId, Set<String> hashtagNames);
+
+    /**
+     * 저장한 댓글만큼 게시글의 댓글 수를 늘리고 마지막 댓글 일시를 기록한다. (article_stats - 2차 캐시 대상인 article 행은 건드리지 않는다.) <br/>
+     * 게시글 당 update ... set comment_count = comment_count + ? 한 문장이므로 동시에 댓글이 달려도 수가 어긋나지 않는다.
+     * 마지막 댓글 일시는 기존 값보다 늦을 때만 바꾼다. <br/>
+     * 통계 행이 아직 없는 게시글은 게시글 행을 잠근 뒤 update 를 다시 시도하고, 그래도 없을 때만 댓글로 계산해서 만든다.
+     * @param articleComments 저장한 (createdAt 이 기록된) 댓글 - 여러 게시글의 댓글이 섞여 있어도 된다.
+     * @return 수정된 게시글 수
+     */
+    long increaseCommentCounts(Collection<ArticleComment> articleComments);
+
+    /**
+     * 댓글 삭제 후 게시글의 댓글 수를 줄이고, 마지막 댓글 일시를 남은 댓글로 다시 계산한다. (update 문 하나)
+     */
+    long decreaseCommentCount(Long articleId);
+
+    /**
+     * 댓글 수/마지막 댓글 일시가 article_comment 와 다른 게시글만 다시 계산해서 고친다. <br/>
+     * 어긋난 행 update, 없는 행 insert ... select, 게시글이 지워진 행 delete 를 한 문장씩 실행한다.
+     * @return 고친 통계 행 수
+     */
+    long reconcileCommentCounts();
+
+    /**
+     * 검색 색인 생성용 조회 <br/>
+     * afterId 보다 큰 게시글을 id 오름차순으로 limit 개수만큼 조회한다. (offset 없는 keyset 방식)
+     */
+    List<ArticleSearchDocument> findSearchDocuments(long afterId, int limit);
+
+    /**
+     * 해시태그 색인 재생성용 조회 <br/>
+     * afterId 보다 큰 게시글을 id 오름차순으로 limit 개수만큼 조회한다. (offset 없는 keyset 방식)
+     */
+    List<Article> findArticlesByIdAfter(long afterId, int limit);
+
+    /**
+     * 해시태그 사전 생성용 조회 <br/>
+     * afterId 보다 큰 article_hashtag 행의 (id, 게시글 ID, 해시태그)를 id 오름차순으로 limit 개수만큼 조회한다.
+     */
+    List<ArticleHashtagDto> findArticleHashtags(long afterId, int limit);
+
+    /**
+     * 내보내기용 조회 - 전체 게시글을 작성자와 함께 id 오름차순으로 한 건씩 읽는다. (forward-only 커서, fetchSize 단위 전송) <br/>
+     * 트랜잭션 안에서 소비하고 닫아야 하며, 읽은 게시글은 영속성 컨텍스트에 쌓이므로 호출하는 쪽에서 주기적으로 clear() 한다.
+     */
+    Stream<Article> streamArticlesWithUserAccount(int fetchSize);
+
+    /**
+     * 해시태그 자동완성 (해시태그 사전이 준비되기 전에만 사용한다.) <br/>
+     * 접두사로 시작하는 해시태그를 게시글 수 내림차순으로 limit 개수만큼 조회한다.
+     */
+    List<HashtagCountDto> findHashtagCounts(String prefix, int limit);
+
+    /**
+     * 게시글 목록 조회 - 페이지 내용만 조회하고 count 쿼리는 실행하지 않는다. <br/>
+     * 전체 개수는 ArticleCountService가 캐시해서 따로 제공한다.
+     */
+    List<Article> findArticles(ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 게시글 목록 화면용 조회 - 본문 없이 목록에 필요한 컬럼과 작성자 닉네임만 한 번의 쿼리로 조회한다. (count 쿼리 없음)
+     */
+    List<ArticleSummaryDto> findArticleSummaries(ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 게시글 목록 Slice 조회 - size + 1 개를 조회해서 다음 페이지 존재 여부만 판단한다. (count 쿼리 없음)
+     */
+    Slice<ArticleSummaryDto> findArticleSummarySlice(ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건에 해당하는 게시글 수 (정확한 count 쿼리)
+     */
+    long countArticles(ArticleSearchCondition condition);
+
+    /**
+     * keyset 페이지네이션 - 커서보다 오래된 게시글을 createdAt DESC, id DESC 순으로 조회한다. <br/>
+     * offset 없이 createdAt 인덱스를 seek 하므로 페이지가 깊어져도 비용이 일정하다.
+     * @param cursor null 이면 첫 페이지
+     */
+    List<ArticleSummaryDto> findArticleSummariesAfter(ArticleSearchCondition condition, ArticleCursor cursor, int limit);
+
+    /**
+     * keyset 페이지네이션 - 커서보다 최신인 게시글을 createdAt ASC, id ASC 순으로 조회한다. (이전 페이지 조회용)
+     */
+    List<ArticleSummaryDto> findArticleSummariesBefore(ArticleSearchCondition condition, ArticleCursor cursor, int limit);
 }
@@ -1,26 +1,544 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.ArticleHashtag;
+import com.fastcampus.projectboard.domain.ArticleStats;
 import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QArticleComment;
+import com.fastcampus.projectboard.domain.QArticleHashtag;
+import com.fastcampus.projectboard.domain.QArticleStats;
+import com.fastcampus.projectboard.domain.QUserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDeleteResultDto;
+import com.fastcampus.projectboard.dto.ArticleHashtagDto;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.Querydsl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ArticleRepositoryImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    private static final String ARTICLE_COMMENTS_ROLE = Article.class.getName() + ".articleComments"; // 게시글 별 댓글 ID 목록 캐시 영역
+    private static final Set<String> ARTICLE_STATS_PROPERTIES = Set.of("commentCount", "lastCommentedAt"); // article_stats 로 정렬하는 목록 정렬 속성
+
     public ArticleRepositoryImpl() {
         super(Article.class);
     }
 
     @Override
     public List<String> findByDistinctHashtags() {
-        QArticle article = QArticle.article;
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
 
-        return from(article)//from만 지원하므로 from부터 시작한다.
+        return from(articleHashtag)//from만 지원하므로 from부터 시작한다.
                 .distinct() // 중복 제거
-                .select(article.hashtag) //hashtag만 스칼라값으로 조회해온다.
-                .where(article.hashtag.isNotNull()) // null값을 제외
+                .select(articleHashtag.hashtagName) //hashtag만 스칼라값으로 조회해온다.
+                .orderBy(articleHashtag.hashtagName.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<HashtagCountDto> findHashtagCounts(String prefix, int limit) {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+
+        return from(articleHashtag)
+                .select(Projections.constructor(HashtagCountDto.class, articleHashtag.hashtagName, articleHashtag.count()))
+                .where(articleHashtag.hashtagName.startsWith(prefix)) // like 'prefix%' - hashtag_name 인덱스 범위 조회
+                .groupBy(articleHashtag.hashtagName)
+                .orderBy(articleHashtag.count().desc(), articleHashtag.hashtagName.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<Article> findArticleWithUserAccount(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(
+                getQuerydsl().createQuery(article)
+                        .setHint(QueryHints.CACHEABLE, true) // 쿼리 캐시 - 게시글/회원은 2차 캐시에서 꺼낸다.
+                        .select(article)
+                        .innerJoin(article.userAccount, QUserAccount.userAccount).fetchJoin()
+                        .where(article.id.eq(articleId))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public Optional<ArticleVersionDto> findArticleVersion(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return Optional.ofNullable(
+                from(article)
+                        .leftJoin(article.articleComments, articleComment)
+                        .select(Projections.constructor(ArticleVersionDto.class,
+                                article.id, article.version, article.modifiedAt, articleComment.count(), articleComment.modifiedAt.max()))
+                        .where(article.id.eq(articleId))
+                        .groupBy(article.id, article.version, article.modifiedAt)
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<Long> findArticleIds(Collection<Long> articleIds) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id)
+                .where(article.id.in(articleIds))
+                .fetch();
+    }
+
+    @Override
+    public ArticleDeleteResultDto deleteArticleCascade(Long articleId, String userId) {
+        QArticle article = QArticle.article;
+
+        Long ownedArticleId = getQuerydsl().createQuery(article)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE) // select ... for update - 삭제가 끝날 때까지 댓글 insert(FK 확인)가 기다린다.
+                .select(article.id)
+                .where(article.id.eq(articleId), article.userAccount.userId.eq(userId))
+                .fetchOne();
+        if (ownedArticleId == null) {
+            return ArticleDeleteResultDto.none();
+        }
+
+        List<Long> articleCommentIds = from(QArticleComment.articleComment) // 지울 댓글의 2차 캐시 항목
+                .select(QArticleComment.articleComment.id)
+                .where(QArticleComment.articleComment.article.id.eq(articleId))
+                .fetch();
+        long articleComments = BulkStatements.executeUpdate(getEntityManager(), "delete from article_comment where article_id = ?1", articleId);
+        long articleHashtags = delete(QArticleHashtag.articleHashtag)
+                .where(QArticleHashtag.articleHashtag.article.id.eq(articleId))
+                .execute();
+        delete(QArticleStats.articleStats)
+                .where(QArticleStats.articleStats.articleId.eq(articleId))
+                .execute();
+        long articles = BulkStatements.executeUpdate(getEntityManager(), "delete from article where id = ?1", articleId);
+
+        BulkStatements.evictEntities(getEntityManager(), Article.class, List.of(articleId));
+        BulkStatements.evictCollection(getEntityManager(), ARTICLE_COMMENTS_ROLE, articleId);
+        BulkStatements.evictEntities(getEntityManager(), ArticleComment.class, articleCommentIds);
+        BulkStatements.evictQueryResults(getEntityManager());
+        return ArticleDeleteResultDto.of(articles, articleComments, articleHashtags);
+    }
+
+    @Override
+    public long updateArticle(Long articleId, String userId, String title, String content, String hashtag) {
+        StringBuilder sql = new StringBuilder("update article set version = version + 1, modified_at = ?1, modified_by = ?2"); // bulk update 는 @Version 을 증가시키지 않는다.
+        List<Object> parameters = new ArrayList<>(List.of(LocalDateTime.now(), userId));
+        if (hashtag == null) { sql.append(", hashtag = null"); } else { parameters.add(hashtag); sql.append(", hashtag = ?").append(parameters.size()); }
+        if (title != null) { parameters.add(title); sql.append(", title = ?").append(parameters.size()); }
+        if (content != null) { parameters.add(content); sql.append(", content = ?").append(parameters.size()); }
+        parameters.add(articleId);
+        sql.append(" where id = ?").append(parameters.size());
+        parameters.add(userId);
+        sql.append(" and user_id = ?").append(parameters.size());
+
+        long updated = BulkStatements.executeUpdate(getEntityManager(), sql.toString(), parameters.toArray());
+        if (updated > 0) {
+            BulkStatements.evictEntities(getEntityManager(), Article.class, List.of(articleId));
+            BulkStatements.evictCollection(getEntityManager(), ARTICLE_COMMENTS_ROLE, articleId);
+        }
+        return updated;
+    }
+
+    @Override
+    public void replaceArticleHashtags(Long articleId, Set<String> hashtagNames) {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+
+        delete(articleHashtag)
+                .where(articleHashtag.article.id.eq(articleId))
+                .execute();
+        Article article = getEntityManager().getReference(Article.class, articleId);
+        hashtagNames.forEach(hashtagName -> getEntityManager().persist(ArticleHashtag.of(article, hashtagName))); // flush 시점에 batch insert
+    }
+
+    @Override
+    public long increaseCommentCounts(Collection<ArticleComment> articleComments) {
+        Map<Long, List<ArticleComment>> commentsByArticleId = articleComments.stream()
+                .collect(Collectors.groupingBy(articleComment -> articleComment.getArticle().getId())); // 프록시도 ID는 초기화 없이 꺼낸다.
+        long updated = 0;
+        for (Map.Entry<Long, List<ArticleComment>> entry : commentsByArticleId.entrySet()) {
+            LocalDateTime lastCommentedAt = entry.getValue().stream()
+                    .map(ArticleComment::getCreatedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+            long count = addCommentCount(entry.getKey(), entry.getValue().size(), lastCommentedAt);
+            updated += count > 0 ? count : createArticleStats(entry.getKey(), entry.getValue().size(), lastCommentedAt);
+        }
+        return updated;
+    }
+
+    /**
+     * 통계 행의 댓글 수를 늘린다. (상대값 update) <br/>
+     * 마지막 댓글 일시는 더 늦은 값일 때만 바꾼다. 먼저 만든 댓글 묶음이 늦게 커밋돼도 뒤로 돌아가지 않는다.
+     * @return 수정한 행 수 (통계 행이 없으면 0)
+     */
+    private long addCommentCount(Long articleId, long count, LocalDateTime lastCommentedAt) {
+        QArticleStats articleStats = QArticleStats.articleStats;
+
+        return update(articleStats)
+                .set(articleStats.commentCount, articleStats.commentCount.add(count))
+                .set(articleStats.lastCommentedAt, new CaseBuilder()
+                        .when(articleStats.lastCommentedAt.isNull().or(articleStats.lastCommentedAt.lt(lastCommentedAt))).then(lastCommentedAt)
+                        .otherwise(articleStats.lastCommentedAt))
+                .where(articleStats.articleId.eq(articleId))
+                .execute();
+    }
+
+    /**
+     * 통계 행이 없는 게시글(첫 댓글)의 통계 행을 만든다. <br/>
+     * 게시글 행을 잠근 뒤 먼저 상대값 update 를 다시 시도한다. 잠금을 기다리는 동안 다른 트랜잭션이 행을 만들고 커밋했다면 그 행에 더한다.
+     * (REPEATABLE READ 에서는 이 트랜잭션의 스냅샷이 잠금 전에 만들어지므로, 댓글을 다시 세면 먼저 커밋된 댓글이 빠질 수 있다.) <br/>
+     * 그래도 행이 없을 때만 댓글로 계산해서 만든다. 게시글 행을 잠그고 만드므로 동시에 달린 첫 댓글들이 같은 행을 두 번 만들지 않는다.
+     * @return 만들거나 수정한 행 수 (게시글이 없으면 0)
+     */
+    private long createArticleStats(Long articleId, long count, LocalDateTime lastCommentedAt) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        Long lockedArticleId = getQuerydsl().createQuery(article)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .select(article.id)
+                .where(article.id.eq(articleId))
+                .fetchOne();
+        if (lockedArticleId == null) {
+            return 0;
+        }
+        long updated = addCommentCount(articleId, count, lastCommentedAt); // update 는 스냅샷이 아닌 커밋된 최신 행을 수정한다.
+        if (updated > 0) {
+            return updated;
+        }
+
+        Tuple stats = from(articleComment) // 저장한 댓글은 이 조회 전에 flush 된다.
+                .select(articleComment.count(), articleComment.createdAt.max())
+                .where(articleComment.article.id.eq(articleId))
+                .fetchOne();
+        long commentCount = stats == null || stats.get(0, Long.class) == null ? 0L : stats.get(0, Long.class);
+        getEntityManager().persist(ArticleStats.of(articleId, commentCount, stats == null ? null : stats.get(1, LocalDateTime.class)));
+        return 1;
+    }
+
+    @Override
+    public long decreaseCommentCount(Long articleId) {
+        QArticleStats articleStats = QArticleStats.articleStats;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return update(articleStats)
+                .set(articleStats.commentCount, articleStats.commentCount.subtract(1L))
+                .set(articleStats.lastCommentedAt, JPAExpressions // 지운 댓글이 마지막 댓글이었을 수 있다.
+                        .select(articleComment.createdAt.max())
+                        .from(articleComment)
+                        .where(articleComment.article.id.eq(articleId)))
+                .where(articleStats.articleId.eq(articleId), articleStats.commentCount.gt(0L))
+                .execute();
+    }
+
+    @Override
+    public long reconcileCommentCounts() {
+        QArticle article = QArticle.article;
+        QArticleStats articleStats = QArticleStats.articleStats;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        JPQLQuery<Long> commentCount = JPAExpressions.select(articleComment.count())
+                .from(articleComment)
+                .where(articleComment.article.id.eq(articleStats.articleId));
+        JPQLQuery<LocalDateTime> lastCommentedAt = JPAExpressions.select(articleComment.createdAt.max())
+                .from(articleComment)
+                .where(articleComment.article.id.eq(articleStats.articleId));
+
+        long updated = update(articleStats)
+                .set(articleStats.commentCount, commentCount)
+                .set(articleStats.lastCommentedAt, lastCommentedAt)
+                .where(articleStats.commentCount.ne(commentCount)
+                        .or(articleStats.lastCommentedAt.ne(lastCommentedAt))
+                        .or(articleStats.lastCommentedAt.isNull().and(commentCount.gt(0L)))
+                        .or(articleStats.lastCommentedAt.isNotNull().and(commentCount.eq(0L))))
+                .execute();
+        long created = getEntityManager().createQuery( // 통계 행 없이 댓글이 있는 게시글 (insert ... select 는 QueryDSL JPA 가 지원하지 않는다.)
+                        "insert into ArticleStats (articleId, commentCount, lastCommentedAt) "
+                                + "select c.article.id, count(c), max(c.createdAt) from ArticleComment c "
+                                + "where not exists (select s.articleId from ArticleStats s where s.articleId = c.article.id) "
+                                + "group by c.article.id")
+                .executeUpdate();
+        long deleted = delete(articleStats) // 게시글이 지워진 통계 행 (REST 로 지운 게시글 등)
+                .where(JPAExpressions.selectOne().from(article).where(article.id.eq(articleStats.articleId)).notExists())
+                .execute();
+        return updated + created + deleted;
+    }
+
+    @Override
+    public List<ArticleSearchDocument> findSearchDocuments(long afterId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleSearchDocument.class, article.id, article.title, article.content)) // 엔티티가 아닌 필요한 컬럼만 조회
+                .where(article.id.gt(afterId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Article> findArticlesByIdAfter(long afterId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .where(article.id.gt(afterId))
+                .orderBy(article.id.asc())
+                .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public List<ArticleHashtagDto> findArticleHashtags(long afterId, int limit) {
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+
+        return from(articleHashtag)
+                .select(Projections.constructor(ArticleHashtagDto.class, articleHashtag.id, articleHashtag.article.id, articleHashtag.hashtagName))
+                .where(articleHashtag.id.gt(afterId))
+                .orderBy(articleHashtag.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<Article> streamArticlesWithUserAccount(int fetchSize) {
+        QArticle article = QArticle.article;
+
+        return getQuerydsl().createQuery(article)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize) // MySQL 은 useCursorFetch=true 일 때 서버 커서로 fetchSize 개씩 받는다.
+                .setHint(QueryHints.READ_ONLY, true) // 변경 감지용 스냅샷을 만들지 않는다.
+                .setHint(QueryHints.CACHE_MODE, CacheMode.IGNORE) // 내보내기로 2차 캐시를 채우지 않는다.
+                .select(article)
+                .innerJoin(article.userAccount, QUserAccount.userAccount).fetchJoin()
+                .orderBy(article.id.asc())
+                .stream();
+    }
+
+    @Override
+    public List<Article> findArticles(ArticleSearchCondition condition, Pageable pageable) {
+        JPQLQuery<Article> query = fromArticleWithUserAccount()
+                .where(searchPredicate(condition));
+        if (pageable.getSort().stream().anyMatch(order -> ARTICLE_STATS_PROPERTIES.contains(order.getProperty()))) {
+            joinArticleStats(query);
+        }
+
+        return applyPagination(pageable, query).fetch(); // offset, limit, sort 적용
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findArticleSummaries(ArticleSearchCondition condition, Pageable pageable) {
+        JPQLQuery<ArticleSummaryDto> query = selectArticleSummary()
+                .where(searchPredicate(condition));
+
+        return applyPagination(pageable, query).fetch();
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findArticleSummarySlice(ArticleSearchCondition condition, Pageable pageable) {
+        JPQLQuery<ArticleSummaryDto> query = selectArticleSummary()
+                .where(searchPredicate(condition));
+        applySorting(pageable.getSort(), query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch(), pageable, false);
+        }
+
+        List<ArticleSummaryDto> articles = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L) // 한 개를 더 조회해서 다음 페이지가 있는지 확인한다.
+                .fetch();
+        boolean hasNext = articles.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? articles.subList(0, pageable.getPageSize()) : articles, pageable, hasNext);
+    }
+
+    @Override
+    public long countArticles(ArticleSearchCondition condition) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Article> query = from(article);
+        if (condition != null && condition.searchType() == SearchType.NICKNAME) { // 닉네임 검색일 때만 join 한다.
+            query.innerJoin(article.userAccount, QUserAccount.userAccount);
+        }
+        Long count = query
+                .select(article.count())
+                .where(searchPredicate(condition))
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findArticleSummariesAfter(ArticleSearchCondition condition, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder where = searchPredicate(condition);
+        if (cursor != null) { // (createdAt, id) < (cursor.createdAt, cursor.id)
+            where.and(article.createdAt.lt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id()))));
+        }
+
+        return selectArticleSummary()
+                .where(where)
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findArticleSummariesBefore(ArticleSearchCondition condition, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder where = searchPredicate(condition);
+        // (createdAt, id) > (cursor.createdAt, cursor.id)
+        where.and(article.createdAt.gt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id()))));
+
+        return selectArticleSummary()
+                .where(where)
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 해시태그 검색 화면은 본문과 작성자 정보를 함께 보여주므로 UserAccount를 fetch join 한다.
+     */
+    private JPQLQuery<Article> fromArticleWithUserAccount() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount).fetchJoin();
+    }
+
+    /**
+     * 목록 화면용 projection <br/>
+     * 본문(content)은 조회하지 않고, 작성자는 엔티티 대신 userId와 nickname 컬럼만 join 해서 가져온다. (닉네임 검색 조건에도 사용) <br/>
+     * 댓글 수와 마지막 댓글 일시는 article_stats 행을 outer join 해서 가져오므로 article_comment 를 join/집계하지 않는다. (행이 없으면 댓글이 없는 게시글)
+     */
+    private JPQLQuery<ArticleSummaryDto> selectArticleSummary() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        QArticleStats articleStats = QArticleStats.articleStats;
+
+        JPQLQuery<Article> query = from(article)
+                .innerJoin(article.userAccount, userAccount);
+        return joinArticleStats(query)
+                .select(Projections.constructor(ArticleSummaryDto.class,
+                        article.id,
+                        article.title,
+                        article.hashtag,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.nickname,
+                        articleStats.commentCount.coalesce(0L),
+                        articleStats.lastCommentedAt
+                ));
+    }
+
+    /**
+     * article_stats 는 연관관계가 없으므로 게시글 ID 로 outer join 한다. (entity join)
+     */
+    private <T> JPQLQuery<T> joinArticleStats(JPQLQuery<T> query) {
+        QArticle article = QArticle.article;
+        QArticleStats articleStats = QArticleStats.articleStats;
+
+        return query.leftJoin(articleStats).on(articleStats.articleId.eq(article.id));
+    }
+
+    private <T> JPQLQuery<T> applyPagination(Pageable pageable, JPQLQuery<T> query) {
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return applySorting(pageable.getSort(), query);
+    }
+
+    /**
+     * 정렬 적용 - 댓글 수/마지막 댓글 일시(commentCount, lastCommentedAt)는 article_stats 의 컬럼으로, 그 외는 article 의 속성으로 정렬한다. <br/>
+     * 통계 행이 없는 게시글의 값은 null 이므로 가장 작은 값으로 정렬된다. (MySQL, H2 기본 null 정렬)
+     */
+    private <T> JPQLQuery<T> applySorting(Sort sort, JPQLQuery<T> query) {
+        Querydsl articleStats = new Querydsl(getEntityManager(), new PathBuilder<>(ArticleStats.class, QArticleStats.articleStats.getMetadata()));
+        sort.forEach(order -> (ARTICLE_STATS_PROPERTIES.contains(order.getProperty()) ? articleStats : getQuerydsl())
+                .applySorting(Sort.by(order), query));
+        return query;
+    }
+
+    /**
+     * SearchType 별 검색 조건 <br/>
+     * 검색 색인 후보가 주어졌다면 PK IN 조건을 먼저 걸어 LIKE 비교 대상을 후보 행으로 한정한다.
+     */
+    private BooleanBuilder searchPredicate(ArticleSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition == null || !condition.hasKeyword()) {
+            return builder;
+        }
+
+        QArticle article = QArticle.article;
+        if (condition.candidateIds() != null) {
+            builder.and(article.id.in(condition.candidateIds()));
+        }
+        String keyword = condition.keyword();
+        BooleanExpression keywordPredicate = switch (condition.searchType()) {
+            case TITLE -> article.title.contains(keyword);
+            case CONTENT -> article.content.contains(keyword);
+            case ID -> article.userAccount.userId.contains(keyword); // FK 컬럼이므로 join이 필요없다.
+            case NICKNAME -> QUserAccount.userAccount.nickname.contains(keyword); // 목록 조회 쿼리의 join alias
+            case HASHTAG -> hashtagPredicate(HashtagQuery.parse(keyword));
+        };
+        return builder.and(keywordPredicate);
+    }
+
+    /**
+     * 해시태그 검색 조건 - article_hashtag 색인 테이블에서 게시글 ID를 찾는다. <br/>
+     * OR: hashtag_name IN (...) <br/>
+     * AND: hashtag_name IN (...) 을 게시글 별로 묶어 찾는 해시태그 수만큼 일치하는 게시글
+     */
+    private BooleanExpression hashtagPredicate(HashtagQuery query) {
+        QArticle article = QArticle.article;
+        if (query.isEmpty()) {
+            return article.id.isNull(); // 해시태그가 없는 검색어 ('#' 만 입력 등)는 결과가 없다.
+        }
+
+        QArticleHashtag articleHashtag = QArticleHashtag.articleHashtag;
+        JPQLQuery<Long> articleIds = JPAExpressions
+                .select(articleHashtag.article.id)
+                .from(articleHashtag)
+                .where(articleHashtag.hashtagName.in(query.hashtags()));
+        if (query.matchAll() && query.hashtags().size() > 1) {
+            articleIds.groupBy(articleHashtag.article.id)
+                    .having(articleHashtag.count().eq((long) query.hashtags().size()));
+        }
+        return article.id.in(articleIds);
+    }
 }
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+
+import java.util.Collection;
+
+/**
+ * 게시글 목록 검색 조건 <br/>
+ * candidateIds가 있다면 (검색 색인이 찾아낸 후보) 해당 ID 안에서만 검색어 포함 여부를 확인한다.
+ * @param searchType 검색 유형 (null 이면 조건 없음)
+ * @param keyword 검색어 - 해시태그 검색이라면 HashtagQuery 형식 (ex: "#java #spring")
+ * @param candidateIds 검색 색인 후보 게시글 ID (null 이면 후보 제한 없음)
+ */
+public record ArticleSearchCondition(
+        SearchType searchType,
+        String keyword,
+        Collection<Long> candidateIds
+) {
+
+    public static ArticleSearchCondition none() {
+        return new ArticleSearchCondition(null, null, null);
+    }
+
+    public static ArticleSearchCondition of(SearchType searchType, String keyword) {
+        return new ArticleSearchCondition(searchType, keyword, null);
+    }
+
+    public static ArticleSearchCondition of(SearchType searchType, String keyword, Collection<Long> candidateIds) {
+        return new ArticleSearchCondition(searchType, keyword, candidateIds);
+    }
+
+    public boolean hasKeyword() {
+        return searchType != null && keyword != null && !keyword.isBlank();
+    }
+
+    /**
+     * 검색 색인이 후보가 하나도 없다고 답했다면 DB를 조회할 필요가 없다.
+     */
+    public boolean hasNoCandidates() {
+        return candidateIds != null && candidateIds.isEmpty();
+    }
+}
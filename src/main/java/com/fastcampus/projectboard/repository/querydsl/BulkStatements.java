@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import org.hibernate.Cache;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * 2차 캐시 대상 테이블(article, article_comment)의 bulk update/delete <br/>
+ * JPQL/QueryDSL bulk 문은 Hibernate 가 대상 엔티티의 캐시 영역 전체와 그 엔티티를 참조하는 컬렉션 영역(Article.articleComments)을 비운다. (BulkOperationCleanupAction) <br/>
+ * 그래서 native SQL 로 실행하되 어떤 엔티티 테이블과도 겹치지 않는 query space 만 동기화하고 (비워두면 모든 영역을 비운다.), 수정한 행의 캐시 항목만 지운다. <br/>
+ * 캐시 항목은 바로 지우고 (이 트랜잭션에서 이전 값을 읽지 않도록) 트랜잭션이 끝난 뒤 한 번 더 지운다. (커밋 전에 다른 트랜잭션이 이전 값을 다시 적재했을 수 있다.)
+ */
+final class BulkStatements {
+
+    static final String QUERY_SPACE = "bulk_statement"; // 캐시 영역과 겹치지 않는 query space
+
+    private BulkStatements() {}
+
+    static long executeUpdate(EntityManager entityManager, String sql, Object... parameters) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        return query.executeUpdate();
+    }
+
+    static void evictEntities(EntityManager entityManager, Class<?> entityClass, Collection<? extends Serializable> ids) {
+        Cache cache = cache(entityManager);
+        evictNowAndAfterCompletion(() -> ids.forEach(id -> cache.evictEntityData(entityClass, id)));
+    }
+
+    static void evictCollection(EntityManager entityManager, String role, Serializable ownerId) {
+        Cache cache = cache(entityManager);
+        evictNowAndAfterCompletion(() -> cache.evictCollectionData(role, ownerId));
+    }
+
+    /**
+     * 쿼리 캐시 결과 (ID 목록) - 행을 지우면 결과에 포함될 행이 달라지므로 비운다. (엔티티 영역은 그대로 둔다.)
+     */
+    static void evictQueryResults(EntityManager entityManager) {
+        Cache cache = cache(entityManager);
+        evictNowAndAfterCompletion(cache::evictDefaultQueryRegion);
+    }
+
+    private static Cache cache(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+    }
+
+    private static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) { return; }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+}
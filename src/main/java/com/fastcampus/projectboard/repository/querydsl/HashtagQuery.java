@@ -0,0 +1,34 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.fastcampus.projectboard.domain.HashtagParser;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 검색어 <br/>
+ * 공백(또는 ',')으로 구분하면 모든 해시태그를 가진 게시글 (AND), '|'로 구분하면 하나라도 가진 게시글 (OR)을 찾는다. <br/>
+ * ex) "#java #spring" -> AND, "#java | #spring" -> OR, "java" -> #java
+ * @param hashtags 정규화된 해시태그
+ * @param matchAll true: AND, false: OR
+ */
+public record HashtagQuery(
+        Set<String> hashtags,
+        boolean matchAll
+) {
+
+    public static HashtagQuery parse(String keyword) {
+        boolean matchAll = !keyword.contains("|");
+        Set<String> hashtags = Arrays.stream(keyword.split("[\\s,|]+"))
+                .filter(token -> !token.isBlank() && !token.equals("#"))
+                .map(HashtagParser::normalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new HashtagQuery(hashtags, matchAll);
+    }
+
+    public boolean isEmpty() {
+        return hashtags.isEmpty();
+    }
+}
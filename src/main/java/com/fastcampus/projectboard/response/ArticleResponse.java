@@ -1,6 +1,7 @@
 package com.fastcampus.projectboard.response;
 
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -12,11 +13,13 @@ public record ArticleResponse(
         String hashtag,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        Long commentCount,
+        LocalDateTime lastCommentedAt
 ) {
 
-    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, Long commentCount, LocalDateTime lastCommentedAt) {
+        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname, commentCount, lastCommentedAt);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -32,7 +35,33 @@ public record ArticleResponse(
                 dto.hashtag(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                null,
+                null
+        );
+    }
+
+    /**
+     * 목록 화면용 - 목록 projection 에는 본문과 이메일이 없고, 댓글 수와 마지막 댓글 일시가 있다.
+     * @param dto
+     * @return
+     */
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                null,
+                dto.hashtag(),
+                dto.createdAt(),
+                null,
+                nickname,
+                dto.commentCount(),
+                dto.lastCommentedAt()
         );
     }
 
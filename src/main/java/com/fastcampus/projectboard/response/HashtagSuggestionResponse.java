@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.response;
+
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+
+public record HashtagSuggestionResponse(
+        String hashtag,
+        long articleCount
+) {
+
+    public static HashtagSuggestionResponse of(String hashtag, long articleCount) {
+        return new HashtagSuggestionResponse(hashtag, articleCount);
+    }
+
+    public static HashtagSuggestionResponse from(HashtagCountDto dto) {
+        return new HashtagSuggestionResponse(dto.hashtag(), dto.count());
+    }
+}
@@ -3,12 +3,15 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -33,27 +37,51 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 저장 - 게시글의 댓글 수/마지막 댓글 일시도 같은 트랜잭션에서 update 문으로 함께 늘린다.
+     */
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById((dto.userAccountDto().userId()));
-            articleCommentRepository.save(dto.toEntity(article, userAccount));
+            ArticleComment articleComment = dto.toEntity(article, userAccount);
+            articleCommentRepository.save(articleComment);
+            articleRepository.increaseCommentCounts(List.of(articleComment));
+            eventPublisher.publishEvent(ArticleCommentEvent.created(articleComment));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - dto: {}", dto);
         }
     }
 
+    /**
+     * 댓글 수정 - 댓글을 읽지 않고 작성자 조건이 붙은 update 문 하나로 수정한다.
+     */
     public void updateArticleComment(ArticleCommentDto dto) {
-        try {
-            ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
-            if (dto.content() != null) { articleComment.setContent(dto.content()); }
-        } catch (EntityNotFoundException e) {
-            log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
+        if (dto.content() == null) { return; }
+        if (articleCommentRepository.updateArticleComment(dto.id(), dto.userAccountDto().userId(), dto.content()) == 0) {
+            log.warn("댓글 업데이트 실패. 댓글이 없거나 작성자가 아닙니다 - dto: {}", dto);
+            return;
         }
+        eventPublisher.publishEvent(ArticleCommentEvent.updated(dto.id(), dto.content()));
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        for (ArticleComment articleComment : articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)) {
+            articleRepository.decreaseCommentCount(articleComment.getArticle().getId());
+            eventPublisher.publishEvent(ArticleCommentEvent.deleted(articleCommentId, articleComment.getArticle().getId()));
+        }
+    }
+
+    /**
+     * 게시글의 댓글 수/마지막 댓글 일시 보정 <br/>
+     * 댓글 저장/삭제 외의 경로(직접 수정한 DB, 실패한 일괄 작업 등)로 어긋난 게시글만 다시 계산한다.
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reconcileCommentCounts() {
+        long reconciled = articleRepository.reconcileCommentCounts();
+        if (reconciled > 0) {
+            log.warn("게시글 댓글 수 보정 - articles: {}", reconciled);
+        }
     }
 
 }
\ No newline at end of file
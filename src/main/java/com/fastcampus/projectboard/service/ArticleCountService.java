@@ -0,0 +1,188 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.ArticleTableStatistics;
+import com.fastcampus.projectboard.repository.querydsl.ArticleSearchCondition;
+import com.fastcampus.projectboard.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 전체 개수(count) 전략 <br/>
+ * 페이지 조회마다 count(*) 쿼리를 실행하지 않도록 (검색 유형, 검색어) 별 개수를 TTL 동안 캐시한다. <br/>
+ * 게시글이 생성/수정/삭제되면 캐시를 모두 비운다. <br/>
+ * 검색어가 없는 전체 목록은 테이블이 충분히 크다면 테이블 통계의 추정치를 사용한다. <br/>
+ * 전체 게시글 수는 생성/삭제 시 증감하는 카운터로 유지하고, 주기적으로 DB와 비교해 보정한다. (보정 차이는 metric 으로 노출) <br/>
+ * 카운터는 outbox 릴레이가 발행한 이벤트까지의 개수이므로, 초기화와 보정도 릴레이가 따라잡은 상태에서 (발행과 겹치지 않게) 기동 시와 스케줄러 스레드에서만 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCountService implements MeterBinder {
+
+    static final Duration TTL = Duration.ofSeconds(30);
+    static final long APPROXIMATE_THRESHOLD = 100_000; // 이보다 작은 테이블은 정확한 count 도 충분히 빠르다.
+    private static final long UNINITIALIZED = -1;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleTableStatistics articleTableStatistics;
+    private final OutboxRelay outboxRelay;
+
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong(); // 캐시를 비울 때마다 증가
+
+    private final AtomicLong totalCount = new AtomicLong(UNINITIALIZED); // 전체 게시글 수 카운터
+    private final AtomicLong lastDrift = new AtomicLong(); // 마지막 보정 시 (DB 개수 - 카운터)
+
+    /**
+     * 페이지네이션용 개수 <br/>
+     * 검색어가 없고 테이블이 크다면 추정치를, 그 외에는 정확한 개수(캐시 또는 카운터)를 반환한다.
+     * @param condition
+     * @return
+     */
+    public long count(ArticleSearchCondition condition) {
+        if (!condition.hasKeyword()) {
+            long estimated = cached(CountKey.APPROXIMATE, () -> articleTableStatistics.estimatedRowCount().orElse(-1L));
+            if (estimated >= APPROXIMATE_THRESHOLD) {
+                return estimated;
+            }
+        }
+        return exactCount(condition);
+    }
+
+    /**
+     * 정확한 개수 - (검색 유형, 검색어) 별로 TTL 동안 캐시한다. <br/>
+     * 검색어가 없다면 전체 게시글 수 카운터를 사용한다.
+     * @param condition
+     * @return
+     */
+    public long exactCount(ArticleSearchCondition condition) {
+        if (!condition.hasKeyword()) {
+            return totalCount();
+        }
+        return cached(new CountKey(condition.searchType(), condition.keyword()), () -> articleRepository.countArticles(condition));
+    }
+
+    /**
+     * 전체 게시글 수 - count 쿼리 없이 카운터 값을 반환한다. <br/>
+     * 카운터가 아직 초기화되지 않았다면 (기동 직후, 릴레이가 따라잡지 못함) DB 개수를 TTL 동안 캐시해 반환한다. <br/>
+     * 요청 스레드에서는 릴레이 lock 을 잡는 보정(readCaughtUp)을 하지 않는다. (발행이 느리면 요청이 함께 기다린다.)
+     * @return
+     */
+    public long totalCount() {
+        long count = totalCount.get();
+        return count != UNINITIALIZED ? count : cached(CountKey.TOTAL, () -> articleRepository.countArticles(ArticleSearchCondition.none()));
+    }
+
+    /**
+     * 기동 시 카운터 초기화 - 릴레이가 마지막 offset 을 읽은 (OutboxRelay.start()) 뒤에 한 번 실행한다. <br/>
+     * 릴레이가 따라잡지 못해 초기화하지 못했다면 주기적인 reconcile()이 다시 시도한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 카운터 보정 <br/>
+     * DB의 실제 게시글 수로 카운터를 맞추고, 그 차이를 기록한다. <br/>
+     * 릴레이가 따라잡은 상태에서 세므로 DB 개수와 카운터는 같은 이벤트까지를 반영한다.
+     * 아직 발행되지 않은 변경이 있다면 (발행 중인 생성/삭제를 두 번 세지 않도록) 다음 보정으로 미룬다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void reconcile() {
+        outboxRelay.readCaughtUp(() -> articleRepository.countArticles(ArticleSearchCondition.none()), actual -> {
+            long before = totalCount.getAndSet(actual); // 릴레이 lock 안이므로 카운터를 바꾸는 이벤트와 겹치지 않는다.
+            if (before != UNINITIALIZED) {
+                lastDrift.set(actual - before);
+                if (actual != before) {
+                    log.warn("게시글 수 카운터 보정 - counter: {}, actual: {}", before, actual);
+                }
+            }
+        });
+    }
+
+    /**
+     * 게시글이 바뀌면 어떤 검색 결과의 개수가 바뀌었는지 알 수 없으므로 모두 비운다. <br/>
+     * 전체 게시글 수 카운터는 outbox 릴레이가 발행한 (커밋된) 생성/삭제로 증감한다. (롤백된 변경은 반영하지 않는다.) <br/>
+     * 같은 묶음이 다시 전달되어 어긋난 카운터는 reconcile()이 보정한다. (카운터 초기화 전의 생성/삭제는 무시하고, 초기화 시의 DB 개수에 포함된다.)
+     */
+    @EventListener
+    public void onOutboxBatch(OutboxBatch batch) {
+        batch.eventsOf(ArticleEvent.class).forEach(this::onArticleEvent);
+    }
+
+    public void onArticleEvent(ArticleEvent event) {
+        invalidate();
+        switch (event.eventType()) {
+            case CREATED -> totalCount.updateAndGet(count -> count == UNINITIALIZED ? count : count + 1);
+            case DELETED -> totalCount.updateAndGet(count -> count == UNINITIALIZED ? count : count - 1);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * board.articles.count : 전체 게시글 수 카운터 <br/>
+     * board.articles.count.drift : 마지막 보정 시 카운터와 DB 개수의 차이
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.articles.count", totalCount, AtomicLong::get)
+                .description("전체 게시글 수 카운터")
+                .register(registry);
+        Gauge.builder("board.articles.count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시 카운터와 DB 게시글 수의 차이")
+                .register(registry);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    private long cached(CountKey key, LongSupplier loader) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            return cached.value();
+        }
+
+        long currentGeneration = generation.get();
+        CachedCount loaded = new CachedCount(loader.getAsLong(), now + TTL.toNanos());
+        counts.put(key, loaded);
+        if (generation.get() != currentGeneration) { // 조회하는 동안 캐시가 비워졌다면 오래된 값일 수 있다.
+            counts.remove(key, loaded);
+        }
+        return loaded.value();
+    }
+
+    private record CountKey(SearchType searchType, String keyword) {
+        static final CountKey APPROXIMATE = new CountKey(null, "");
+        static final CountKey TOTAL = new CountKey(null, null);
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+        boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
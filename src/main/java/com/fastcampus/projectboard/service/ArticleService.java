@@ -1,21 +1,45 @@
 package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.HashtagParser;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.constant.TrendingWindow;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDeleteResultDto;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.repository.querydsl.ArticleSearchCondition;
+import com.fastcampus.projectboard.service.hashtag.HashtagDictionary;
+import com.fastcampus.projectboard.service.hashtag.TrendingHashtags;
+import com.fastcampus.projectboard.service.search.ArticleSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor // lombok의 필수 필드(final)에 대한 생성자를 자동으로 만들어준다.
@@ -24,48 +48,152 @@ import java.util.List;
 public class ArticleService {
     private final UserAccountRepository userAccountRepository;
 
+    public static final int COMMENT_PAGE_SIZE = 20; // 상세 화면에서 한 번에 보여주는 댓글 수
+    public static final int HASHTAG_SUGGESTION_MAX_SIZE = 50; // 해시태그 자동완성 최대 개수
+
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleCountService articleCountService;
+    private final HashtagDictionary hashtagDictionary;
+    private final TrendingHashtags trendingHashtags;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 목록 검색 <br/>
+     * 목록 화면에 필요한 컬럼만 조회(projection)하고, 전체 개수는 ArticleCountService에서 얻는다. <br/>
+     * PageableExecutionUtils는 첫 페이지가 다 차지 않았거나 마지막 페이지라면 개수를 조회하지 않는다.
+     * @param searchType
+     * @param searchKeyword
+     * @param pageable
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchCondition condition = searchCondition(searchType, searchKeyword);
+        if (condition.hasNoCandidates()) { // 검색 색인에 후보가 없다면 DB를 조회할 필요가 없다.
+            return Page.empty(pageable);
+        }
+        List<ArticleSummaryDto> articles = articleRepository.findArticleSummaries(condition, pageable);
+        return PageableExecutionUtils.getPage(articles, pageable, () -> articleCountService.count(condition));
+    }
+
+    /**
+     * Slice 검색 <br/>
+     * 전체 페이지 수가 필요 없는 화면(무한 스크롤 등)용으로 count 쿼리 없이 다음 페이지 존재 여부만 알려준다.
+     * @param searchType
+     * @param searchKeyword
+     * @param pageable
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleSummaryDto> searchArticleSlice(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchCondition condition = searchCondition(searchType, searchKeyword);
+        if (condition.hasNoCandidates()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        return articleRepository.findArticleSummarySlice(condition, pageable);
+    }
 
+    /**
+     * keyset(seek) 페이지네이션 검색 <br/>
+     * offset 대신 커서 (createdAt, id) 이후의 게시글을 조회하므로 몇 번째 페이지든 비용이 일정하다. <br/>
+     * 전체 개수를 세지 않고 size + 1 개를 조회해서 다음(이전) 페이지 존재 여부만 판단한다.
+     * @param after 이 커서보다 오래된 게시글 조회 (다음 페이지, null 이면 첫 페이지)
+     * @param before 이 커서보다 최신인 게시글 조회 (이전 페이지, after 보다 우선한다.)
+     * @param size 페이지 크기
+     * @return
+     */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-//        return List.of();
-
-        /**
-         * SearchType 즉, 검색어가 존재하지 않을때
-         * @return findAll의 Page의 제너릭은 JpaRepository의 제너릭 Article이 되므로 map을 통해 ArticleDTO의 from Mapper로 변환
-         */
-        if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+    public CursorPage<ArticleSummaryDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, ArticleCursor after, ArticleCursor before, int size) {
+        ArticleSearchCondition condition = searchCondition(searchType, searchKeyword);
+        if (condition.hasNoCandidates()) {
+            return CursorPage.empty();
         }
 
-        /**
-         * SearchType 즉, 검색어가 존재할때
-         * Eunm을 기준으로 서로 다른 쿼리를 만든다.
-         * ex) Title : 제목검색쿼리, ID : 아이디검색쿼리
-         * [switch case 화살표 문법]
-         * : 콜론은 break해줘야한다.
-         *
-         */
+        if (before != null) {
+            List<ArticleSummaryDto> articles = articleRepository.findArticleSummariesBefore(condition, before, size + 1); // 오름차순
+            boolean hasPrevious = articles.size() > size;
+            List<ArticleSummaryDto> content = new ArrayList<>(articles.subList(0, Math.min(size, articles.size())));
+            Collections.reverse(content); // 화면은 항상 최신순
+            return CursorPage.of(
+                    content,
+                    hasPrevious ? ArticleCursor.from(content.get(0)) : null,
+                    content.isEmpty() ? null : ArticleCursor.from(content.get(content.size() - 1)) // before 로 왔다면 더 오래된 글(원래 페이지)이 있다.
+            );
+        }
+
+        List<ArticleSummaryDto> articles = articleRepository.findArticleSummariesAfter(condition, after, size + 1);
+        boolean hasNext = articles.size() > size;
+        List<ArticleSummaryDto> content = articles.subList(0, Math.min(size, articles.size()));
+        return CursorPage.of(
+                content,
+                after != null && !content.isEmpty() ? ArticleCursor.from(content.get(0)) : null,
+                hasNext ? ArticleCursor.from(content.get(content.size() - 1)) : null
+        );
+    }
+
+    /**
+     * 검색 유형과 검색어로 검색 조건을 만든다. <br/>
+     * 검색어가 존재하지 않으면 조건 없이 전체를 조회한다. <br/>
+     * 제목/본문 검색은 n-gram 색인의 후보 게시글 ID를 함께 담는다. (색인으로 답할 수 없으면 후보 제한 없음)
+     * @param searchType
+     * @param searchKeyword
+     * @return
+     */
+    private ArticleSearchCondition searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return ArticleSearchCondition.none();
+        }
         return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + searchKeyword, pageable).map(ArticleDto::from);
+            case TITLE -> ArticleSearchCondition.of(searchType, searchKeyword, articleSearchIndex.searchTitle(searchKeyword).orElse(null));
+            case CONTENT -> ArticleSearchCondition.of(searchType, searchKeyword, articleSearchIndex.searchContent(searchKeyword).orElse(null));
+            case ID, NICKNAME -> ArticleSearchCondition.of(searchType, searchKeyword);
+            case HASHTAG -> ArticleSearchCondition.of(searchType, searchKeyword); // '#'은 HashtagQuery가 붙인다. (여러 해시태그 AND/OR 검색)
         };
-
     }
 
     /**
      * 상세 조회
-     * 상세 조회이므로 댓글과 함께 조회한다.
+     * 상세 조회이므로 댓글과 함께 조회한다. (첫 댓글 페이지)
      * @param articleId
      * @return
      */
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticleWithComments(long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+        return getArticleWithComments(articleId, null);
+    }
+
+    /**
+     * 상세 조회 - 댓글 페이지
+     * 게시글(작성자 fetch join)을 조회한 뒤, 댓글은 커서 이후의 COMMENT_PAGE_SIZE 개만 keyset 으로 조회한다.
+     * 댓글이 몇 개든 SQL 문장 수(2개)와 메모리 사용량이 일정하다.
+     * @param articleId
+     * @param commentCursor 이 커서보다 오래된 댓글 조회 (null 이면 첫 페이지)
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ArticleWithCommentsDto getArticleWithComments(long articleId, ArticleCursor commentCursor) {
+        Article article = articleRepository.findArticleWithUserAccount(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+
+        List<ArticleComment> articleComments = articleCommentRepository.findArticleCommentsAfter(articleId, commentCursor, COMMENT_PAGE_SIZE + 1);
+        boolean hasNext = articleComments.size() > COMMENT_PAGE_SIZE;
+        List<ArticleComment> page = hasNext ? articleComments.subList(0, COMMENT_PAGE_SIZE) : articleComments;
+        ArticleComment last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ArticleWithCommentsDto.from(article, page, hasNext ? ArticleCursor.of(last.getCreatedAt(), last.getId()) : null);
+    }
+
+    /**
+     * 상세 화면의 변경 여부 (ETag / Last-Modified 계산용) <br/>
+     * 게시글과 댓글 본문을 읽지 않는 집계 쿼리 하나로 조회하므로, 변경이 없다면 상세 조회 없이 304로 응답할 수 있다.
+     * @param articleId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ArticleVersionDto getArticleVersion(long articleId) {
+        return articleRepository.findArticleVersion(articleId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
@@ -84,48 +212,102 @@ public class ArticleService {
 
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = articleRepository.save(dto.toEntity(userAccount));
+        eventPublisher.publishEvent(ArticleEvent.created(article));
     }
 
+    /**
+     * 게시글 수정 - 게시글을 읽지 않고 작성자 조건이 붙은 update 문 하나로 수정한다. (select, dirty checking 없음) <br/>
+     * 제목/본문 중 일부만 수정한 경우에만 이벤트와 해시태그 색인에 필요한 현재 값을 다시 읽는다.
+     */
     public void updateArticle(Long articleId, ArticleDto dto) {
-        /**
-         * getReferenceById : 이전버전의 getOne메소드와 같다.
-         * findById를 할 경우 select query가 기본으로 호출되기 때문에 사용했다.
-         * 엔티티를 실제로 사용할 때까지 데이터베이스 조회를 지연한다. (ex: 필드 추출 DTO변환)
-         * 실제 엔티티 객체가 필요한 시점에서 프록시객체가 아닌 실제 엔티티를 반환한다.
-         */
-//        Article article = articleRepository.findById(dto.id()).orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + dto.id()));
-        try {
-            Article article = articleRepository.getReferenceById(articleId);
-            UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-            if(article.getUserAccount().equals(userAccount)) {
-                if (dto.title() != null) article.setTitle(dto.title());
-                if (dto.content() != null) article.setContent(dto.content());
-                article.setHashtag(dto.hashtag());
-            }
-        } catch (EntityNotFoundException e) {
-            log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - dto: {}", e.getLocalizedMessage()); // concatenation 이 아닌 {}문법 interpolation
+        String userId = dto.userAccountDto().userId();
+        if (articleRepository.updateArticle(articleId, userId, dto.title(), dto.content(), dto.hashtag()) == 0) {
+            log.warn("게시글 업데이트 실패. 게시글이 없거나 작성자가 아닙니다 - articleId: {}, userId: {}", articleId, userId);
+            return;
         }
 
+        ArticleEvent event = dto.title() != null && dto.content() != null
+                ? ArticleEvent.of(EventType.UPDATED, articleId, dto.title(), dto.content(), dto.hashtag())
+                : ArticleEvent.updated(articleRepository.getReferenceById(articleId));
+        articleRepository.replaceArticleHashtags(articleId, HashtagParser.parse(event.hashtag(), event.title(), event.content()));
+        eventPublisher.publishEvent(event);
     }
 
+    /**
+     * 게시글 삭제 - 댓글/해시태그 색인을 한 건씩 지우지 않고 테이블 별 delete 문 하나로 지운다. (댓글 수와 상관없이 SQL 6번 - 2차 캐시에서 지울 댓글 ID 조회 포함)
+     */
     public void deleteArticle(long articleId, String userId) {
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        ArticleDeleteResultDto result = articleRepository.deleteArticleCascade(articleId, userId);
+        if (result.isDeleted()) {
+            log.debug("게시글 삭제 - articleId: {}, comments: {}, hashtags: {}", articleId, result.articleComments(), result.articleHashtags());
+            eventPublisher.publishEvent(ArticleEvent.deleted(articleId));
+        }
     }
 
+    /**
+     * 상세 화면의 이전/다음 버튼에 사용한다. <br/>
+     * count 쿼리 대신 생성/삭제 시 증감하는 카운터 값을 반환한다.
+     */
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.totalCount();
     }
 
+    /**
+     * 해시태그 검색 - article_hashtag 색인 테이블로 게시글을 찾는다. <br/>
+     * "#java #spring" 은 두 해시태그를 모두 가진 게시글, "#java | #spring" 은 하나라도 가진 게시글을 찾는다.
+     * @param hashtag
+     * @param pageable
+     * @return
+     */
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
         if (hashtag == null || hashtag.isBlank()) { // 검색어가 비어있다면
             return Page.empty(pageable);// 빈 페이지를 보여준다.
         }
-        return articleRepository.findByHashtag(hashtag,pageable).map(ArticleDto::from);
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.HASHTAG, hashtag);
+        List<Article> articles = articleRepository.findArticles(condition, pageable); // 해시태그 검색 화면은 본문도 보여준다.
+        return PageableExecutionUtils.getPage(articles, pageable, () -> articleCountService.count(condition))
+                .map(ArticleDto::from);
     }
 
     public List<String> getHashtags() {
-        return articleRepository.findByDistinctHashtags();
+        return getHashtags(HashtagSort.NAME);
+    }
+
+    /**
+     * 해시태그 목록 - 인메모리 해시태그 사전에서 조회한다. <br/>
+     * 사전이 아직 준비되지 않았다면 DB (SELECT DISTINCT) 조회로 대체한다.
+     * @param sort
+     * @return
+     */
+    public List<String> getHashtags(HashtagSort sort) {
+        return hashtagDictionary.hashtags(sort)
+                .orElseGet(articleRepository::findByDistinctHashtags);
+    }
+
+    /**
+     * 인기 해시태그 - 최근 1시간 / 24시간 / 7일 동안 게시글, 댓글에 가장 많이 쓰인 해시태그 (DB를 조회하지 않는다.)
+     */
+    public Map<TrendingWindow, List<HashtagCountDto>> getTrendingHashtags() {
+        return trendingHashtags.topHashtags();
+    }
+
+    /**
+     * 해시태그 자동완성 - 접두사로 시작하는 해시태그를 게시글 수가 많은 순서로 반환한다. <br/>
+     * 해시태그 사전의 접두사 색인에서 찾고, 사전이 아직 준비되지 않았다면 article_hashtag 테이블을 조회한다.
+     * @param prefix 접두사 ('#'은 생략 가능, 대소문자 구분 없음)
+     * @param size 최대 개수 (HASHTAG_SUGGESTION_MAX_SIZE 까지)
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<HashtagCountDto> suggestHashtags(String prefix, int size) {
+        if (prefix == null || prefix.isBlank() || size < 1) {
+            return List.of();
+        }
+        String normalizedPrefix = HashtagParser.normalize(prefix);
+        int limit = Math.min(size, HASHTAG_SUGGESTION_MAX_SIZE);
+        return hashtagDictionary.suggest(normalizedPrefix, limit)
+                .orElseGet(() -> articleRepository.findHashtagCounts(normalizedPrefix, limit));
     }
 }
@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class UserAccountService {
+
+    private final UserAccountRepository userAccountRepository;
+
+    /**
+     * 회원 조회 (read-through 캐시) <br/>
+     * 캐시에 없을 때만 DB를 조회하고, 조회한 회원 정보(DTO)를 userId로 캐시한다. <br/>
+     * 존재하지 않는 회원은 캐시하지 않는다. (unless - Optional은 꺼낸 값으로 판단한다.)
+     * @param userId
+     * @return
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_ACCOUNTS, key = "#userId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<UserAccountDto> searchUser(String userId) {
+        return userAccountRepository.findById(userId)
+                .map(UserAccountDto::from);
+    }
+
+    /**
+     * 회원 정보 캐시 무효화 <br/>
+     * 회원 정보(비밀번호, 닉네임 등)를 바꾸는 곳에서는 변경 후 반드시 호출해야 한다.
+     * @param userId
+     */
+    @CacheEvict(cacheNames = CacheConfig.USER_ACCOUNTS, key = "#userId")
+    public void evictUser(String userId) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.constant.ExportFormat;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 게시글/댓글 내보내기 <br/>
+ * 게시글을 forward-only 커서로 한 건씩 읽어 CHUNK_SIZE 개씩 묶고, 묶음의 댓글은 IN 쿼리 한 번으로 읽어 바로 출력 스트림에 쓴다. <br/>
+ * 묶음을 쓸 때마다 출력을 flush 하고 영속성 컨텍스트를 비우므로 게시글 수와 상관없이 메모리 사용량이 일정하다. <br/>
+ * 게시글 다음에 그 게시글의 댓글이 작성 순으로 이어진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) // 일시는 ISO-8601 문자열
+            .build();
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * @param withComments true 면 게시글마다 댓글을 함께 내보낸다.
+     * @param outputStream 닫지 않는다. (응답 스트림은 컨테이너가 닫는다.)
+     */
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, boolean withComments, OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(ExportRow.CSV_HEADER, writer);
+        }
+
+        long articles = 0;
+        long comments = 0;
+        try (Stream<Article> stream = articleRepository.streamArticlesWithUserAccount(CHUNK_SIZE)) {
+            Iterator<Article> iterator = stream.iterator();
+            List<Article> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= CHUNK_SIZE || !iterator.hasNext()) {
+                    articles += chunk.size();
+                    comments += write(chunk, format, withComments, writer);
+                    chunk.clear();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("내보내기 완료 - format: {}, articles: {}, comments: {}, elapsed: {}ms",
+                format, articles, comments, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 한 묶음 출력 - 댓글은 (게시글 id, 작성 순)으로 정렬되어 있으므로 게시글 순서대로 이어 붙인다.
+     * @return 출력한 댓글 수
+     */
+    private long write(List<Article> chunk, ExportFormat format, boolean withComments, Writer writer) throws IOException {
+        List<ArticleComment> comments = withComments
+                ? articleCommentRepository.findArticleCommentsIn(chunk.stream().map(Article::getId).toList())
+                : List.of();
+
+        int commentIndex = 0;
+        for (Article article : chunk) {
+            write(ExportRow.from(article), format, writer);
+            while (commentIndex < comments.size() && comments.get(commentIndex).getArticle().getId().equals(article.getId())) {
+                write(ExportRow.from(comments.get(commentIndex++)), format, writer);
+            }
+        }
+        writer.flush(); // 묶음마다 클라이언트로 내보낸다.
+        entityManager.clear();
+        return comments.size();
+    }
+
+    private void write(ExportRow row, ExportFormat format, Writer writer) throws IOException {
+        switch (format) {
+            case NDJSON -> {
+                writer.write(OBJECT_MAPPER.writeValueAsString(row));
+                writer.write('\n');
+            }
+            case CSV -> writeCsvLine(row.csvValues(), writer);
+        }
+    }
+
+    private void writeCsvLine(Object[] values, Writer writer) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) { writer.write(','); }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 값 - 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 쓴다. null 은 빈 값
+     */
+    static String csvField(Object value) {
+        if (value == null) { return ""; }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,76 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 파일의 한 줄 <br/>
+ * 게시글: {"type":"article", "id":1, "ref":"1", "userId":"yooHyeok", "nickname":"...", "title":"...", "content":"...", "hashtag":"#java", ...} <br/>
+ * 댓글: {"type":"comment", "id":1, "articleRef":"1", "articleId":1, "userId":"yooHyeok2", "nickname":"...", "content":"...", ...} <br/>
+ * type, ref, articleRef, userId, title, content, hashtag 는 일괄 가져오기(ImportRow)와 같으므로 내보낸 파일을 그대로 다시 가져올 수 있다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "id", "ref", "articleRef", "articleId", "userId", "nickname", "title", "content", "hashtag", "createdAt", "modifiedAt"})
+public record ExportRow(
+        String type,
+        Long id,
+        String ref,
+        String articleRef,
+        Long articleId,
+        String userId,
+        String nickname,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+
+    static final String[] CSV_HEADER = {"type", "id", "article_id", "user_id", "nickname", "title", "content", "hashtag", "created_at", "modified_at"};
+
+    public static ExportRow from(Article article) {
+        return new ExportRow(
+                "article",
+                article.getId(),
+                String.valueOf(article.getId()),
+                null,
+                null,
+                article.getUserAccount().getUserId(),
+                article.getUserAccount().getNickname(),
+                article.getTitle(),
+                article.getContent(),
+                article.getHashtag(),
+                article.getCreatedAt(),
+                article.getModifiedAt()
+        );
+    }
+
+    public static ExportRow from(ArticleComment articleComment) {
+        Long articleId = articleComment.getArticle().getId();
+        return new ExportRow(
+                "comment",
+                articleComment.getId(),
+                null,
+                String.valueOf(articleId),
+                articleId,
+                articleComment.getUserAccount().getUserId(),
+                articleComment.getUserAccount().getNickname(),
+                null,
+                articleComment.getContent(),
+                null,
+                articleComment.getCreatedAt(),
+                articleComment.getModifiedAt()
+        );
+    }
+
+    /**
+     * CSV_HEADER 순서의 값 (없는 값은 null)
+     */
+    Object[] csvValues() {
+        return new Object[] {type, id, articleId, userId, nickname, title, content, hashtag, createdAt, modifiedAt};
+    }
+}
@@ -0,0 +1,178 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.domain.HashtagParser;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.dto.ArticleHashtagDto;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 해시태그 사전 <br/>
+ * 해시태그 -> 게시글 수를 유지해서 해시태그 목록과 자동완성을 DB 조회 없이 제공한다. <br/>
+ * 애플리케이션 기동 시 article_hashtag 테이블로부터 만들고, 이후에는 ArticleEvent를 구독하여 변경분만 반영한다. <br/>
+ * 삭제 이벤트에는 해시태그가 없으므로 게시글 ID -> 해시태그 역방향 맵을 함께 유지한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagDictionary {
+
+    private static final int BUILD_BATCH_SIZE = 1000; // 기동 시 한번에 읽어올 article_hashtag 행 수 (id 기준 keyset 조회)
+
+    private final ArticleRepository articleRepository;
+    private final Map<String, Long> counts = new ConcurrentHashMap<>(); // 해시태그 -> 게시글 수
+    private final Map<Long, Set<String>> articleHashtags = new ConcurrentHashMap<>(); // 게시글 ID -> 해시태그
+    private final List<ArticleEvent> heldBackEvents = new ArrayList<>(); // 사전 생성 중 받은 변경 이벤트 (heldBackEvents lock 안에서만 사용)
+    private volatile boolean ready = false;
+
+    private volatile long version = 0L; // counts 변경 횟수 (synchronized 안에서만 변경)
+    private volatile HashtagPrefixIndex prefixIndex = HashtagPrefixIndex.EMPTY;
+    private volatile long prefixIndexVersion = -1L; // prefixIndex를 만들 당시의 version
+
+    /**
+     * 기동 완료 후 (data.sql 적재 이후) article_hashtag 테이블을 id 순서대로 나누어 읽는다. <br/>
+     * 생성 중 받은 변경 이벤트는 이미 읽은 행과 섞이면 삭제된 게시글의 해시태그가 되살아날 수 있으므로, 모아 두었다가 생성이 끝난 뒤 순서대로 다시 적용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long lastId = 0L;
+        List<ArticleHashtagDto> hashtags;
+        do {
+            hashtags = articleRepository.findArticleHashtags(lastId, BUILD_BATCH_SIZE);
+            for (ArticleHashtagDto hashtag : hashtags) {
+                add(hashtag.articleId(), hashtag.hashtag());
+                lastId = hashtag.id();
+            }
+        } while (hashtags.size() == BUILD_BATCH_SIZE);
+        int replayed;
+        synchronized (heldBackEvents) {
+            heldBackEvents.forEach(this::onArticleEvent);
+            replayed = heldBackEvents.size();
+            heldBackEvents.clear();
+            ready = true;
+        }
+        log.info("해시태그 사전 생성 완료 - hashtags: {}, articles: {}, replayed events: {}", counts.size(), articleHashtags.size(), replayed);
+    }
+
+    /**
+     * outbox 릴레이가 발행한 (커밋된) 게시글 변경을 offset 순서대로 사전에 반영한다. put()/remove()는 멱등이므로 다시 전달되어도 결과가 같다. <br/>
+     * 사전 생성 중이라면 생성이 끝날 때까지 미룬다.
+     */
+    @EventListener
+    public void onOutboxBatch(OutboxBatch batch) {
+        List<ArticleEvent> events = batch.eventsOf(ArticleEvent.class);
+        synchronized (heldBackEvents) {
+            if (!ready) {
+                heldBackEvents.addAll(events);
+                return;
+            }
+        }
+        events.forEach(this::onArticleEvent);
+    }
+
+    /**
+     * 해시태그는 Article 엔티티와 같은 규칙으로 해시태그 필드, 제목, 본문에서 추출한다.
+     */
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED, UPDATED -> put(event.articleId(), HashtagParser.parse(event.hashtag(), event.title(), event.content()));
+            case DELETED -> remove(event.articleId());
+        }
+    }
+
+    /**
+     * 게시글의 해시태그를 등록한다. 이미 등록된 게시글이라면 이전 해시태그를 교체한다. (멱등)
+     */
+    public synchronized void put(long articleId, Set<String> hashtags) {
+        remove(articleId);
+        hashtags.forEach(hashtag -> add(articleId, hashtag));
+    }
+
+    public synchronized void remove(long articleId) {
+        Set<String> previous = articleHashtags.remove(articleId);
+        if (previous != null) {
+            previous.forEach(hashtag -> counts.computeIfPresent(hashtag, (key, count) -> count > 1 ? count - 1 : null)); // 0이 되면 제거
+            version++;
+        }
+    }
+
+    private synchronized void add(long articleId, String hashtag) {
+        if (articleHashtags.computeIfAbsent(articleId, key -> new HashSet<>()).add(hashtag)) {
+            counts.merge(hashtag, 1L, Long::sum);
+            version++;
+        }
+    }
+
+    /**
+     * 해시태그 목록
+     * @param sort NAME: 이름순, POPULAR: 게시글 수 내림차순 (같으면 이름순)
+     * @return 사전이 아직 준비되지 않았다면 Optional.empty() - 호출자는 DB 조회로 대체해야 한다.
+     */
+    public Optional<List<String>> hashtags(HashtagSort sort) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Comparator<Map.Entry<String, Long>> comparator = switch (sort) {
+            case NAME -> Map.Entry.comparingByKey();
+            case POPULAR -> Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+        };
+        return Optional.of(counts.entrySet().stream()
+                .sorted(comparator)
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    /**
+     * 해시태그 자동완성 <br/>
+     * 접두사 색인은 사전이 바뀐 뒤 처음 조회할 때 다시 만든다. (쓰기보다 읽기가 훨씬 많다.)
+     * @param prefix 정규화된 접두사 (ex: #ja)
+     * @param limit 최대 개수
+     * @return 사전이 아직 준비되지 않았다면 Optional.empty() - 호출자는 DB 조회로 대체해야 한다.
+     */
+    public Optional<List<HashtagCountDto>> suggest(String prefix, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(prefixIndex().suggest(prefix, limit));
+    }
+
+    /**
+     * @return 해시태그가 달린 게시글 수 (없으면 0)
+     */
+    public long count(String hashtag) {
+        return counts.getOrDefault(hashtag, 0L);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private HashtagPrefixIndex prefixIndex() {
+        if (prefixIndexVersion == version) {
+            return prefixIndex;
+        }
+        synchronized (this) {
+            if (prefixIndexVersion != version) {
+                prefixIndex = HashtagPrefixIndex.of(counts);
+                prefixIndexVersion = version;
+            }
+            return prefixIndex;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.HashtagParser;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기동 시 해시태그 색인(article_hashtag) 재생성 <br/>
+ * data.sql 은 엔티티를 거치지 않고 게시글을 넣으므로 해시태그 필드로만 색인을 채운다. 제목/본문의 #태그까지 Article 엔티티와 같은 규칙(HashtagParser)으로 맞춘다. <br/>
+ * data.sql 이 적재되는 경우(spring.sql.init.mode=always)에만 동작하며, 해시태그 사전(ApplicationReadyEvent)과 일괄 가져오기보다 먼저 실행된다. <br/>
+ * 색인이 이미 규칙과 같은 게시글은 건드리지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.sql.init.mode", havingValue = "always")
+@Component
+public class HashtagIndexRebuilder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500; // 한 트랜잭션에서 확인할 게시글 수 (id 기준 keyset 조회)
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long[] progress = {0L, 0L}; // 마지막으로 확인한 게시글 ID, 색인을 교체한 게시글 수
+        int size;
+        do {
+            size = transactionTemplate.execute(status -> rebuild(progress));
+        } while (size == BATCH_SIZE);
+        log.info("해시태그 색인 재생성 완료 - rebuilt articles: {}", progress[1]);
+    }
+
+    /**
+     * 한 묶음의 게시글 중 색인이 규칙과 다른 게시글만 색인 행을 교체한다. <br/>
+     * 색인 행은 bulk delete/insert 로 바꾸고 엔티티는 수정하지 않으므로 게시글의 version/modifiedAt 은 그대로다.
+     * @return 확인한 게시글 수
+     */
+    private int rebuild(long[] progress) {
+        List<Article> articles = articleRepository.findArticlesByIdAfter(progress[0], BATCH_SIZE);
+        for (Article article : articles) {
+            Set<String> hashtags = HashtagParser.parse(article.getHashtag(), article.getTitle(), article.getContent());
+            if (!hashtags.equals(article.getHashtags())) { // 색인 컬렉션은 default_batch_fetch_size 단위로 IN 조회된다.
+                articleRepository.replaceArticleHashtags(article.getId(), hashtags);
+                progress[1]++;
+            }
+            progress[0] = article.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return articles.size();
+    }
+}
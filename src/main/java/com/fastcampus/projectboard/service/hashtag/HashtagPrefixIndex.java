@@ -0,0 +1,74 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 해시태그 접두사 색인 (정렬된 배열) <br/>
+ * 이름순으로 정렬된 배열에서 접두사로 시작하는 해시태그는 연속된 구간에 모여있다. <br/>
+ * 이진 탐색으로 구간의 시작을 찾고, 구간 안에서 게시글 수 상위 K개를 힙으로 고른다. <br/>
+ * 불변 객체 - 사전이 바뀌면 새로 만든다. (읽기는 동기화 없이 여러 스레드에서 가능)
+ */
+class HashtagPrefixIndex {
+
+    static final HashtagPrefixIndex EMPTY = new HashtagPrefixIndex(new String[0], new long[0]);
+
+    private static final Comparator<HashtagCountDto> POPULARITY = Comparator
+            .comparingLong(HashtagCountDto::count).reversed()
+            .thenComparing(HashtagCountDto::hashtag);
+
+    private final String[] hashtags; // 이름 오름차순
+    private final long[] counts; // hashtags[i]의 게시글 수
+
+    private HashtagPrefixIndex(String[] hashtags, long[] counts) {
+        this.hashtags = hashtags;
+        this.counts = counts;
+    }
+
+    static HashtagPrefixIndex of(Map<String, Long> hashtagCounts) {
+        String[] hashtags = hashtagCounts.keySet().toArray(String[]::new);
+        Arrays.sort(hashtags);
+        long[] counts = new long[hashtags.length];
+        for (int i = 0; i < hashtags.length; i++) {
+            counts[i] = hashtagCounts.getOrDefault(hashtags[i], 0L);
+        }
+        return new HashtagPrefixIndex(hashtags, counts);
+    }
+
+    /**
+     * @param prefix 정규화된 접두사 (ex: #ja)
+     * @param limit 최대 개수
+     * @return 접두사로 시작하는 해시태그 중 게시글 수 상위 limit 개 (게시글 수 내림차순, 같으면 이름순)
+     */
+    List<HashtagCountDto> suggest(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        PriorityQueue<HashtagCountDto> top = new PriorityQueue<>(POPULARITY.reversed()); // 가장 덜 인기있는 해시태그가 head
+        for (int i = from; i < hashtags.length && hashtags[i].startsWith(prefix); i++) {
+            top.offer(HashtagCountDto.of(hashtags[i], counts[i]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<HashtagCountDto> result = new ArrayList<>(top);
+        result.sort(POPULARITY);
+        return result;
+    }
+
+    int size() {
+        return hashtags.length;
+    }
+
+    /**
+     * @return prefix 이상인 첫 번째 위치
+     */
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(hashtags, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+}
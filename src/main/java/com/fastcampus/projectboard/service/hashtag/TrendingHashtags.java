@@ -0,0 +1,185 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.domain.HashtagParser;
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.TrendingWindow;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 해시태그 (최근 1시간 / 24시간 / 7일) <br/>
+ * 게시글 작성, 댓글 작성 시 등장한 해시태그를 5분 단위 시간 버킷에 센다. <br/>
+ * - 버킷은 7일치를 담는 링 버퍼이고, 시간이 지난 버킷은 CAS로 새 버킷으로 교체한다. (lock-free) <br/>
+ * - 버킷 안의 카운터는 LongAdder (스레드별로 나누어 더하는 striped counter) 이다. <br/>
+ * 윈도우 별 상위 K개는 1분마다 크기 K의 힙으로 미리 계산해두므로, 조회는 O(K)이고 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class TrendingHashtags {
+
+    public static final int TOP_K = 10;
+    static final Duration BUCKET_SIZE = Duration.ofMinutes(5);
+    private static final int BUCKET_COUNT = (int) (TrendingWindow.WEEK.getDuration().toMillis() / BUCKET_SIZE.toMillis()); // 2016개
+
+    private static final Comparator<HashtagCountDto> POPULARITY = Comparator
+            .comparingLong(HashtagCountDto::count).reversed()
+            .thenComparing(HashtagCountDto::hashtag);
+
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private volatile Map<TrendingWindow, List<HashtagCountDto>> topHashtags = emptyTopHashtags();
+
+    public TrendingHashtags() {
+        this(Clock.systemDefaultZone());
+    }
+
+    TrendingHashtags(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * outbox 릴레이가 발행한 커밋된 변경 중 게시글/댓글 생성만 센다. <br/>
+     * 같은 묶음이 다시 전달되면 두 번 세어질 수 있다. (인기 순위에는 영향이 거의 없는 근사치)
+     */
+    @EventListener
+    public void onOutboxBatch(OutboxBatch batch) {
+        batch.eventsOf(ArticleEvent.class).forEach(this::onArticleEvent);
+        batch.eventsOf(ArticleCommentEvent.class).forEach(this::onArticleCommentEvent);
+    }
+
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() == EventType.CREATED) {
+            record(HashtagParser.parse(event.hashtag(), event.title(), event.content()));
+        }
+    }
+
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.eventType() == EventType.CREATED) {
+            record(HashtagParser.parse(event.content()));
+        }
+    }
+
+    /**
+     * 현재 시간 버킷에 해시태그 사용 횟수를 더한다.
+     */
+    public void record(Collection<String> hashtags) {
+        if (hashtags.isEmpty()) {
+            return;
+        }
+        Bucket bucket = currentBucket();
+        hashtags.forEach(hashtag -> bucket.counts.computeIfAbsent(hashtag, key -> new LongAdder()).increment());
+    }
+
+    /**
+     * @return 윈도우 별 인기 해시태그 상위 K개 (마지막 refresh() 기준)
+     */
+    public Map<TrendingWindow, List<HashtagCountDto>> topHashtags() {
+        return topHashtags;
+    }
+
+    public List<HashtagCountDto> topHashtags(TrendingWindow window) {
+        return topHashtags.get(window);
+    }
+
+    /**
+     * 윈도우 별 상위 K개를 다시 계산한다. <br/>
+     * 버킷은 한 번씩만 읽고, 더 짧은 윈도우의 합계에 이어서 더한다. (1시간 ⊂ 24시간 ⊂ 7일)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void refresh() {
+        long currentSlot = currentSlot();
+        Map<String, Long> totals = new HashMap<>();
+        Map<TrendingWindow, List<HashtagCountDto>> refreshed = new EnumMap<>(TrendingWindow.class);
+        long slotsRead = 0;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            long windowSlots = window.getDuration().toMillis() / BUCKET_SIZE.toMillis();
+            for (; slotsRead < windowSlots; slotsRead++) {
+                Bucket bucket = buckets.get(index(currentSlot - slotsRead));
+                if (bucket != null && bucket.slot == currentSlot - slotsRead) {
+                    bucket.counts.forEach((hashtag, count) -> totals.merge(hashtag, count.sum(), Long::sum));
+                }
+            }
+            refreshed.put(window, topK(totals));
+        }
+        topHashtags = refreshed;
+    }
+
+    private Bucket currentBucket() {
+        long slot = currentSlot();
+        int index = index(slot);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.slot == slot) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(slot);
+            if (buckets.compareAndSet(index, bucket, fresh)) { // 실패하면 다른 스레드가 먼저 교체한 것이다.
+                return fresh;
+            }
+        }
+    }
+
+    private long currentSlot() {
+        return clock.millis() / BUCKET_SIZE.toMillis();
+    }
+
+    private static int index(long slot) {
+        return (int) Math.floorMod(slot, (long) BUCKET_COUNT);
+    }
+
+    /**
+     * 크기 K의 최소 힙으로 상위 K개를 고른다. O(N log K)
+     */
+    private static List<HashtagCountDto> topK(Map<String, Long> totals) {
+        PriorityQueue<HashtagCountDto> top = new PriorityQueue<>(POPULARITY.reversed()); // 가장 덜 인기있는 해시태그가 head
+        totals.forEach((hashtag, count) -> {
+            top.offer(HashtagCountDto.of(hashtag, count));
+            if (top.size() > TOP_K) {
+                top.poll();
+            }
+        });
+        List<HashtagCountDto> result = new ArrayList<>(top);
+        result.sort(POPULARITY);
+        return List.copyOf(result);
+    }
+
+    private static Map<TrendingWindow, List<HashtagCountDto>> emptyTopHashtags() {
+        Map<TrendingWindow, List<HashtagCountDto>> empty = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+
+    /**
+     * 5분 단위 시간 버킷
+     */
+    private static final class Bucket {
+        private final long slot; // epoch millis / BUCKET_SIZE
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fastcampus.projectboard.service.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * 기동 시 일괄 가져오기 실행 <br/>
+ * board.import.file 이 지정된 경우에만 동작한다. 검색 색인, 해시태그 사전은 기동 완료(ApplicationReadyEvent) 시점에 만들어지므로 가져온 게시글도 포함된다. <br/>
+ * ex) java -jar board.jar --board.import.file=articles.ndjson --board.import.batch-size=1000
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.import", name = "file")
+@Component
+public class ArticleImportRunner implements ApplicationRunner {
+
+    private final ArticleImportService articleImportService;
+    private final ImportProperties importProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("일괄 가져오기 시작 - file: {}, batch size: {}", importProperties.file(), importProperties.batchSize());
+        try (Reader reader = Files.newBufferedReader(importProperties.file(), StandardCharsets.UTF_8)) {
+            articleImportService.importFrom(reader, importProperties.batchSize(), importProperties.maxRefs());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.fastcampus.projectboard.service.importer;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.dto.ImportResultDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.UserAccountService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글/댓글 일괄 가져오기 <br/>
+ * NDJSON 파일을 한 줄씩 읽어 batchSize 개씩 묶고, 묶음마다 별도 트랜잭션으로 저장한다. (JDBC batch insert) <br/>
+ * 묶음을 저장할 때마다 영속성 컨텍스트를 비우므로 파일 크기와 상관없이 메모리 사용량이 일정하다. <br/>
+ * 작성자는 회원 캐시(UserAccountService)를 거쳐 한 번만 조회하고, 없는 회원의 줄이나 형식이 잘못된 줄은 건너뛴다. <br/>
+ * 파일 안의 게시글 ref -> 저장된 ID 는 최근 maxRefs 개만 기억한다. 댓글은 가리키는 게시글 뒤에 가까이 있어야 하며 (내보내기 형식과 같다), 잊혀진 ref 를 가리키는 댓글은 건너뛴다. <br/>
+ * createdBy/modifiedBy 는 각 줄의 작성자로 기록한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int TITLE_MAX_LENGTH = 255; // article.title 컬럼 길이
+    private static final int HASHTAG_MAX_LENGTH = 255; // article.hashtag 컬럼 길이
+    private static final int ARTICLE_CONTENT_MAX_LENGTH = 10000;
+    private static final int COMMENT_CONTENT_MAX_LENGTH = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final UserAccountService userAccountService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * @param reader NDJSON (한 줄에 ImportRow 하나)
+     * @param batchSize 한 트랜잭션에서 저장할 줄 수
+     * @param maxRefs 기억할 게시글 ref 수 (가져오는 동안의 메모리 사용량 상한)
+     * @return 저장한 게시글/댓글 수, 건너뛴 줄 수, 소요 시간
+     */
+    public ImportResultDto importFrom(Reader reader, int batchSize, int maxRefs) throws IOException {
+        ImportContext context = new ImportContext(System.nanoTime(), maxRefs);
+        SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+
+        try (BufferedReader lines = new BufferedReader(reader)) {
+            List<ImportRow> chunk = new ArrayList<>(batchSize);
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) { continue; }
+                parse(line).ifPresentOrElse(chunk::add, () -> context.skipped++);
+                if (chunk.size() >= batchSize) {
+                    write(chunk, context);
+                    chunk.clear();
+                }
+            }
+            write(chunk, context);
+        } finally {
+            SecurityContextHolder.setContext(previousSecurityContext);
+        }
+
+        ImportResultDto result = context.result();
+        log.info("일괄 가져오기 완료 - articles: {}, comments: {}, skipped: {}, elapsed: {}ms, rows/sec: {}",
+                result.articles(), result.comments(), result.skipped(), result.elapsed().toMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private Optional<ImportRow> parse(String line) {
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(line, ImportRow.class));
+        } catch (JsonProcessingException e) {
+            log.warn("일괄 가져오기 - 형식이 잘못된 줄을 건너뜁니다: {}", e.getOriginalMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 한 묶음 저장 - 작성자는 트랜잭션 밖에서 (캐시로) 먼저 확인하고, 저장이 끝나면 flush/clear 로 영속성 컨텍스트를 비운다.
+     */
+    private void write(List<ImportRow> chunk, ImportContext context) {
+        if (chunk.isEmpty()) { return; }
+        chunk.stream()
+                .map(ImportRow::userId)
+                .filter(userId -> userId != null && !context.users.containsKey(userId))
+                .forEach(userId -> context.users.put(userId, userAccountService.searchUser(userId)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE); // 가져온 게시글로 2차 캐시를 채우지 않는다.
+            List<ArticleComment> comments = new ArrayList<>();
+            for (ImportRow row : chunk) {
+                Optional<UserAccountDto> user = context.users.getOrDefault(row.userId(), Optional.empty());
+                if (user.isEmpty() || !isValid(row, context)) {
+                    log.warn("일괄 가져오기 - 저장할 수 없는 줄을 건너뜁니다: type={}, ref={}, userId={}", row.type(), row.ref(), row.userId());
+                    context.skipped++;
+                    continue;
+                }
+                runAs(user.get());
+                if (row.isArticle()) {
+                    saveArticle(row, context);
+                } else {
+                    comments.add(saveArticleComment(row, context));
+                }
+            }
+            articleRepository.increaseCommentCounts(comments); // 묶음의 게시글 별로 update 문 하나
+            entityManager.flush();
+            entityManager.clear();
+        });
+        log.info("일괄 가져오기 진행 - rows: {}, skipped: {}, rows/sec: {}", context.result().rows(), context.skipped, context.result().rowsPerSecond());
+    }
+
+    private void saveArticle(ImportRow row, ImportContext context) {
+        Article article = articleRepository.save(Article.of(
+                userAccountRepository.getReferenceById(row.userId()), row.title(), row.content(), row.hashtag()
+        ));
+        if (row.ref() != null) {
+            context.articleIds.put(row.ref(), article.getId());
+        }
+        context.articles++;
+    }
+
+    private ArticleComment saveArticleComment(ImportRow row, ImportContext context) {
+        Long articleId = row.articleRef() != null ? context.articleIds.get(row.articleRef()) : row.articleId();
+        ArticleComment articleComment = articleCommentRepository.save(ArticleComment.of(
+                articleRepository.getReferenceById(articleId), userAccountRepository.getReferenceById(row.userId()), row.content()
+        ));
+        context.comments++;
+        return articleComment;
+    }
+
+    /**
+     * 저장 도중 제약 조건 위반으로 묶음 전체가 롤백되지 않도록, 필수 값과 길이를 미리 확인한다.
+     */
+    private boolean isValid(ImportRow row, ImportContext context) {
+        if (row.isArticle()) {
+            return row.title() != null && !row.title().isBlank() && row.title().length() <= TITLE_MAX_LENGTH
+                    && row.content() != null && row.content().length() <= ARTICLE_CONTENT_MAX_LENGTH
+                    && (row.hashtag() == null || row.hashtag().length() <= HASHTAG_MAX_LENGTH);
+        }
+        if (row.isComment()) {
+            boolean hasArticle = row.articleRef() != null ? context.articleIds.containsKey(row.articleRef()) : isExistingArticle(row.articleId(), context);
+            return hasArticle && row.content() != null && !row.content().isBlank() && row.content().length() <= COMMENT_CONTENT_MAX_LENGTH;
+        }
+        return false;
+    }
+
+    private boolean isExistingArticle(Long articleId, ImportContext context) {
+        return articleId != null && context.existingArticles.computeIfAbsent(articleId, articleRepository::existsById);
+    }
+
+    /**
+     * Auditing(createdBy/modifiedBy)이 각 줄의 작성자를 기록하도록 인증 정보를 바꾼다.
+     */
+    private void runAs(UserAccountDto user) {
+        BoardPrincipal principal = BoardPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+    }
+
+    /**
+     * 가져오기 한 번의 상태 <br/>
+     * 회원 조회 결과 (없는 회원 포함), 파일 안의 게시글 ref -> 저장된 ID (최근 maxRefs 개), 이미 있는 게시글 ID 확인 결과, 진행 개수
+     */
+    private static class ImportContext {
+        private final long startedAt;
+        private final Map<String, Optional<UserAccountDto>> users = new HashMap<>();
+        private final Map<String, Long> articleIds;
+        private final Map<Long, Boolean> existingArticles = new HashMap<>();
+        private long articles;
+        private long comments;
+        private long skipped;
+
+        private ImportContext(long startedAt, int maxRefs) {
+            this.startedAt = startedAt;
+            this.articleIds = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > maxRefs; // 가장 먼저 기억한 ref 부터 잊는다.
+                }
+            };
+        }
+
+        private ImportResultDto result() {
+            return ImportResultDto.of(articles, comments, skipped, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.projectboard.service.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 일괄 가져오기 설정 (board.import)
+ * @param file 가져올 NDJSON 파일 - 지정하지 않으면 가져오기를 실행하지 않는다.
+ * @param batchSize 한 트랜잭션에서 저장할 줄 수
+ * @param maxRefs 기억할 게시글 ref 수 - 댓글은 가리키는 게시글로부터 maxRefs 개 이내에 있어야 한다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.import")
+public record ImportProperties(
+        Path file,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100000") int maxRefs
+) {}
@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.service.importer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 일괄 가져오기 파일(NDJSON)의 한 줄 <br/>
+ * 게시글: {"type":"article", "ref":"a-1", "userId":"yooHyeok", "title":"...", "content":"...", "hashtag":"#java"} <br/>
+ * 댓글: {"type":"comment", "articleRef":"a-1", "userId":"yooHyeok2", "content":"..."} - 같은 파일의 게시글은 ref로, 이미 있는 게시글은 articleId로 가리킨다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportRow(
+        String type,
+        String ref,
+        String userId,
+        String title,
+        String content,
+        String hashtag,
+        String articleRef,
+        Long articleId
+) {
+
+    public static ImportRow article(String ref, String userId, String title, String content, String hashtag) {
+        return new ImportRow("article", ref, userId, title, content, hashtag, null, null);
+    }
+
+    public static ImportRow comment(String articleRef, Long articleId, String userId, String content) {
+        return new ImportRow("comment", null, userId, null, content, null, articleRef, articleId);
+    }
+
+    public boolean isArticle() {
+        return "article".equalsIgnoreCase(type);
+    }
+
+    public boolean isComment() {
+        return "comment".equalsIgnoreCase(type);
+    }
+}
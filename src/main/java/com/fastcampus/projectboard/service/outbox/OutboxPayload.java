@@ -0,0 +1,48 @@
+package com.fastcampus.projectboard.service.outbox;
+
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import com.fastcampus.projectboard.domain.constant.AggregateType;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트 <-> outbox 행 변환 (이벤트 record 를 그대로 JSON 으로 저장한다.)
+ */
+final class OutboxPayload {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private OutboxPayload() {}
+
+    static OutboxEvent toOutboxEvent(ArticleEvent event, LocalDateTime createdAt) {
+        return OutboxEvent.of(AggregateType.ARTICLE, event.articleId(), event.eventType(), write(event), createdAt);
+    }
+
+    static OutboxEvent toOutboxEvent(ArticleCommentEvent event, LocalDateTime createdAt) {
+        return OutboxEvent.of(AggregateType.ARTICLE_COMMENT, event.articleCommentId(), event.eventType(), write(event), createdAt);
+    }
+
+    static Object toEvent(OutboxEvent outboxEvent) {
+        Class<?> type = switch (outboxEvent.getAggregateType()) {
+            case ARTICLE -> ArticleEvent.class;
+            case ARTICLE_COMMENT -> ArticleCommentEvent.class;
+        };
+        try {
+            return OBJECT_MAPPER.readValue(outboxEvent.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 읽을 수 없습니다 - offset: " + outboxEvent.getId(), e);
+        }
+    }
+
+    private static String write(Object event) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 기록할 수 없습니다 - event: " + event, e);
+        }
+    }
+}
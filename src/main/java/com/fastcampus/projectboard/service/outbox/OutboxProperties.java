@@ -0,0 +1,24 @@
+package com.fastcampus.projectboard.service.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 변경 이벤트 outbox 설정 (board.outbox)
+ * @param batchSize 릴레이가 한 번에 읽어 발행할 최대 이벤트 수
+ * @param gapTimeout offset 사이에 빈 번호가 있을 때, 뒤의 이벤트를 발행하지 않고 앞 번호의 트랜잭션이 커밋되기를 기다리는 시간 (빈 번호를 처음 본 뒤 이 인스턴스의 시계로 잰다.)
+ *                   지나면 뒤의 이벤트를 먼저 발행하고, 빈 번호는 gapRetention 동안 다시 조회한다.
+ * @param gapRetention 건너뛴 빈 번호를 다시 조회하는 기간 - 어떤 트랜잭션보다도 길어야 하며, 지나면 롤백된 것으로 보고 포기한다.
+ * @param retention 이벤트 보관 기간
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.outbox")
+public record OutboxProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("5s") Duration gapTimeout,
+        @DefaultValue("10m") Duration gapRetention,
+        @DefaultValue("7d") Duration retention
+) {}
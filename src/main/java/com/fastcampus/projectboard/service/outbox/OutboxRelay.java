@@ -0,0 +1,271 @@
+package com.fastcampus.projectboard.service.outbox;
+
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * outbox 릴레이 - outbox 테이블을 offset 순서로 읽어 OutboxBatch 로 묶어 애플리케이션 내부 구독자에게 발행한다. <br/>
+ * 구독자(검색 색인, 해시태그 사전/집계, 개수 캐시, 페이지 캐시)가 모두 처리한 뒤에 offset 을 옮기므로, 처리 중 실패하면 다음 주기에 같은 묶음을 다시 발행한다. (at-least-once) <br/>
+ * offset 은 인스턴스마다 메모리에 가진다. 구독자는 기동 시 DB 로부터 다시 만들어지므로, 기동 시점의 마지막 offset 부터 읽으면 되고
+ * 인스턴스가 여러 대라면 각자 모든 이벤트를 받는다. <br/>
+ * ID 는 insert 순서로 할당되지만 커밋 순서는 다르므로, offset 을 지나친 빈 번호는 gapRetention 동안 기억해 두고 늦게 커밋되면 그때 발행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OutboxRelay implements MeterBinder {
+
+    static final long POLL_DELAY_MILLIS = 1_000;
+    static final int START_GAP_WINDOW = 10_000; // 기동 시 아직 커밋되지 않았을 수 있는 것으로 보는 (마지막 offset 이전의) ID 범위
+    static final int MAX_PENDING_GAPS = 10_000; // 기억할 빈 번호 수 - 넘으면 가장 오래된 것부터 포기한다.
+    private static final long UNINITIALIZED = -1;
+
+    private final OutboxProperties properties;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong offset = new AtomicLong(UNINITIALIZED); // 마지막으로 발행한 이벤트 ID
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>(); // offset 이전의 건너뛴 빈 번호 -> 처음 본 시각 (nanoTime, 릴레이 lock 안에서만 사용)
+    private final AtomicInteger pendingGapCount = new AtomicInteger();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(); // 릴레이 스레드에 아직 실행되지 않은 요청이 있는지 여부
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long waitingGapId = UNINITIALIZED; // offset 바로 뒤의 빈 번호 - 커밋을 기다리는 중
+    private long waitingSince; // waitingGapId 를 처음 본 시각 (nanoTime)
+    private volatile Timer relayTimer;
+    private volatile Counter abandonedGapCounter;
+
+    /**
+     * 다른 구독자들이 DB 로부터 자료구조를 만들기 전에 offset 을 정한다. <br/>
+     * 그 사이에 커밋된 변경은 다시 만든 자료구조와 이벤트에 모두 반영될 수 있지만, 빠지지는 않는다. <br/>
+     * 마지막 offset 보다 작은 ID 도 아직 커밋 전일 수 있으므로, 최근 START_GAP_WINDOW 범위의 빈 번호는 건너뛴 빈 번호로 기억한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        long lastOffset = outboxEventRepository.findLastOffset().orElse(0L);
+        long windowStart = Math.max(0L, lastOffset - START_GAP_WINDOW);
+        Set<Long> committed = new HashSet<>(outboxEventRepository.findIdsGreaterThan(windowStart));
+        long now = System.nanoTime();
+        for (long id = windowStart + 1; id < lastOffset; id++) {
+            if (!committed.contains(id)) { pendingGaps.put(id, now); }
+        }
+        pendingGapCount.set(pendingGaps.size());
+        offset.set(lastOffset);
+        log.info("outbox 릴레이 시작 - offset: {}, pending gaps: {}", lastOffset, pendingGaps.size());
+    }
+
+    public long offset() {
+        return offset.get();
+    }
+
+    /**
+     * 릴레이 스레드에 발행을 맡기고 바로 반환한다. (OutboxWriter 가 커밋 직후 호출) <br/>
+     * 요청 스레드는 구독자 처리(검색 색인 등)나 진행 중인 발행을 기다리지 않는다.
+     * 아직 실행되지 않은 요청이 있으면 합치고, 발행 중에 온 요청은 그 발행이 끝난 뒤 한 번 더 실행한다.
+     */
+    public void wakeUp() {
+        if (!wakeUpRequested.compareAndSet(false, true)) { return; }
+        try {
+            relayExecutor.execute(this::relayRequested);
+        } catch (RejectedExecutionException e) { // 종료 중 - 남은 이벤트는 다음 기동 시 구독자가 DB 로부터 다시 만든다.
+            wakeUpRequested.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        relayExecutor.shutdown();
+    }
+
+    /**
+     * 읽을 이벤트가 batchSize 보다 적을 때까지 묶음 단위로 발행한다. <br/>
+     * 이 인스턴스의 변경은 wakeUp() 으로 릴레이 스레드가 바로 발행하고, 주기적 폴링은 다른 인스턴스의 변경과 실패한 묶음을 위한 것이다.
+     * 호출하는 스레드가 여러 개이므로 한 번에 하나만 발행한다. (offset 순서 보장)
+     */
+    @Scheduled(fixedDelay = POLL_DELAY_MILLIS)
+    public synchronized void relay() {
+        if (offset.get() == UNINITIALIZED) { return; }
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == properties.batchSize());
+    }
+
+    private void relayRequested() {
+        wakeUpRequested.set(false); // 발행 중에 온 요청은 다시 실행된다.
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("outbox 릴레이 실패 - 다음 폴링에서 다시 발행합니다.", e);
+        }
+    }
+
+    /**
+     * offset 이후의 이벤트를 최대 batchSize 개 읽어 한 묶음으로 발행한다. 건너뛴 빈 번호 중 그 사이 커밋된 이벤트가 있다면 묶음 앞에 함께 발행한다. <br/>
+     * offset 바로 뒤에 빈 번호가 있으면 앞 번호의 트랜잭션이 아직 커밋되지 않았을 수 있으므로, 빈 번호를 처음 본 뒤 gapTimeout 동안은 그 앞까지만 발행한다.
+     * 그래도 채워지지 않으면 뒤의 이벤트를 발행하고 빈 번호는 gapRetention 동안 매 주기 다시 조회한다. <br/>
+     * 시간은 이 인스턴스가 빈 번호를 본 시각으로 재므로, 이벤트를 기록한 인스턴스의 시계와는 상관없다.
+     * @return offset 이후에서 읽어 발행한 이벤트 수 (늦게 커밋된 빈 번호의 이벤트는 제외)
+     */
+    int relayBatch() {
+        long from = offset.get();
+        long now = System.nanoTime();
+        List<OutboxEvent> lateEvents = pendingGaps.isEmpty() ? List.of() : outboxEventRepository.findByIdInOrderByIdAsc(List.copyOf(pendingGaps.keySet()));
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.ofSize(properties.batchSize()));
+
+        List<Object> events = new ArrayList<>(lateEvents.size() + outboxEvents.size());
+        lateEvents.forEach(outboxEvent -> events.add(OutboxPayload.toEvent(outboxEvent)));
+        List<Long> skipped = new ArrayList<>();
+        long to = from;
+        int read = 0;
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            if (outboxEvent.getId() != to + 1) {
+                if (!isGapTimedOut(to + 1, now)) { break; }
+                log.debug("outbox 릴레이 - 아직 커밋되지 않은 offset 을 건너뛰고 나중에 다시 확인합니다: {} ~ {}", to + 1, outboxEvent.getId() - 1);
+                for (long id = Math.max(to + 1, outboxEvent.getId() - MAX_PENDING_GAPS); id < outboxEvent.getId(); id++) {
+                    skipped.add(id);
+                }
+            }
+            events.add(OutboxPayload.toEvent(outboxEvent));
+            to = outboxEvent.getId();
+            read++;
+        }
+
+        if (!events.isEmpty()) {
+            long startedAt = System.nanoTime();
+            eventPublisher.publishEvent(OutboxBatch.of(from, to, events));
+            if (relayTimer != null) { relayTimer.record(Duration.ofNanos(System.nanoTime() - startedAt)); }
+        }
+        lateEvents.forEach(outboxEvent -> pendingGaps.remove(outboxEvent.getId()));
+        skipped.forEach(id -> pendingGaps.put(id, now));
+        offset.set(to);
+        expirePendingGaps(now);
+        return read;
+    }
+
+    /**
+     * 릴레이가 따라잡은 상태에서 DB 를 읽는다. (발행과 겹치지 않는다.) <br/>
+     * 읽기 전후로 아직 발행하지 않은 커밋된 이벤트가 없다면, 읽은 DB 상태에는 지금까지 발행한 이벤트가 정확히 반영되어 있으므로 apply 를 실행한다.
+     * 그 사이 커밋된 변경이 있거나 발행에 실패했다면 실행하지 않는다. (다음에 다시 시도) <br/>
+     * 구독자의 상태(ex: 카운터)를 DB 로 보정할 때, 발행 중인 이벤트와 겹쳐 같은 변경을 두 번 세지 않기 위해 사용한다.
+     * @return apply 를 실행했는지 여부
+     */
+    public synchronized <T> boolean readCaughtUp(Supplier<T> reader, Consumer<T> apply) {
+        if (offset.get() == UNINITIALIZED) { return false; }
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("outbox 릴레이 - 발행에 실패해 따라잡은 상태에서 읽지 못했습니다.", e);
+            return false;
+        }
+        if (hasUndeliveredEvents()) { return false; }
+        T value = reader.get();
+        if (hasUndeliveredEvents()) { return false; }
+        apply.accept(value);
+        return true;
+    }
+
+    private boolean hasUndeliveredEvents() {
+        return !outboxEventRepository.findByIdGreaterThanOrderByIdAsc(offset.get(), PageRequest.ofSize(1)).isEmpty()
+                || !pendingGaps.isEmpty() && !outboxEventRepository.findByIdInOrderByIdAsc(List.copyOf(pendingGaps.keySet())).isEmpty();
+    }
+
+    private boolean isGapTimedOut(long gapId, long now) {
+        if (waitingGapId != gapId) {
+            waitingGapId = gapId;
+            waitingSince = now;
+        }
+        return now - waitingSince >= properties.gapTimeout().toNanos();
+    }
+
+    /**
+     * gapRetention 이 지났거나 MAX_PENDING_GAPS 를 넘은 빈 번호는 롤백된 것으로 보고 포기한다. (pendingGaps 는 처음 본 순서)
+     */
+    private void expirePendingGaps(long now) {
+        int abandoned = 0;
+        Iterator<Map.Entry<Long, Long>> iterator = pendingGaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> gap = iterator.next();
+            if (pendingGaps.size() <= MAX_PENDING_GAPS && now - gap.getValue() < properties.gapRetention().toNanos()) { break; }
+            iterator.remove();
+            abandoned++;
+        }
+        if (abandoned > 0) {
+            log.info("outbox 릴레이 - {} 동안 커밋되지 않은 offset 을 롤백된 것으로 보고 포기합니다: {} 개", properties.gapRetention(), abandoned);
+            if (abandonedGapCounter != null) { abandonedGapCounter.increment(abandoned); }
+        }
+        pendingGapCount.set(pendingGaps.size());
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트를 지운다. (릴레이는 기동 시점 이후의 이벤트만 읽는다.)
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void purge() {
+        int deleted = outboxEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(properties.retention()));
+        if (deleted > 0) {
+            log.info("outbox 이벤트 정리 - deleted: {}", deleted);
+        }
+    }
+
+    /**
+     * board.outbox.offset : 마지막으로 발행한 이벤트 ID <br/>
+     * board.outbox.relay : 묶음 발행(구독자 처리) 시간 (count = 묶음 수) <br/>
+     * board.outbox.gaps.pending : 다시 조회 중인 빈 번호 수 <br/>
+     * board.outbox.gaps.abandoned : gapRetention 동안 커밋되지 않아 포기한 빈 번호 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.outbox.offset", offset, AtomicLong::get)
+                .description("마지막으로 발행한 outbox 이벤트 ID")
+                .register(registry);
+        relayTimer = Timer.builder("board.outbox.relay")
+                .description("outbox 이벤트 묶음 발행 시간")
+                .register(registry);
+        Gauge.builder("board.outbox.gaps.pending", pendingGapCount, AtomicInteger::get)
+                .description("늦은 커밋을 기다리며 다시 조회 중인 outbox 빈 번호 수")
+                .register(registry);
+        abandonedGapCounter = Counter.builder("board.outbox.gaps.abandoned")
+                .description("커밋되지 않아 롤백된 것으로 본 outbox 빈 번호 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,60 @@
+package com.fastcampus.projectboard.service.outbox;
+
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서비스가 발행한 게시글/댓글 변경 이벤트를 변경과 같은 트랜잭션에서 outbox 테이블에 기록한다. <br/>
+ * 트랜잭션 밖에서 발행된 이벤트는 기록하지 않고 예외를 던진다. (MANDATORY) <br/>
+ * 커밋 직후 릴레이 스레드를 깨워, 이 인스턴스의 변경은 폴링 주기를 기다리지 않고 구독자에게 전달한다. (요청 스레드는 발행을 기다리지 않는다.)
+ */
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+
+    @EventListener
+    public void onArticleEvent(ArticleEvent event) {
+        outboxEventRepository.save(OutboxPayload.toOutboxEvent(event, LocalDateTime.now()));
+        relayAfterCommit();
+    }
+
+    @EventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        outboxEventRepository.save(OutboxPayload.toOutboxEvent(event, LocalDateTime.now()));
+        relayAfterCommit();
+    }
+
+    /**
+     * 트랜잭션 당 한 번만 등록한다. (댓글 묶음 저장처럼 이벤트가 여러 개여도 릴레이 요청은 한 번) <br/>
+     * 발행은 릴레이 스레드에서 하므로, 구독자 처리가 느리거나 실패해도 커밋한 요청은 기다리거나 실패하지 않는다.
+     */
+    private void relayAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(this)) { return; }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(OutboxWriter.this);
+            }
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 제목/본문 검색용 인메모리 n-gram 색인 <br/>
+ * 애플리케이션 기동 시 article 테이블로부터 색인을 만들고, 이후에는 ArticleEvent를 구독하여 변경분만 반영한다. <br/>
+ * LIKE '%keyword%' 전체 스캔 대신 posting list 교집합으로 후보 게시글 ID를 찾는다. <br/>
+ * n-gram 색인의 결과는 후보이므로 호출자는 후보 ID 범위 안에서 실제 포함 여부를 확인해야 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000; // 기동 시 한번에 읽어올 게시글 수 (id 기준 keyset 조회)
+    /**
+     * 후보가 이보다 많으면 색인이 충분히 걸러내지 못한 것이므로 (ex: 흔한 gram) IN 조회 대신 DB 검색이 더 저렴하다. <br/>
+     * 후보 ID는 목록 조회와 count 조회에 id IN (...) 바인딩 파라미터로 두 번 들어가므로, 문장 크기와 파싱 비용이 작은 범위로 제한한다.
+     */
+    static final int MAX_CANDIDATES = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final InvertedIndex titleIndex = new InvertedIndex(new NGramTokenizer());
+    private final InvertedIndex contentIndex = new InvertedIndex(new NGramTokenizer());
+    private final List<ArticleEvent> heldBackEvents = new ArrayList<>(); // 색인 생성 중 받은 변경 이벤트 (heldBackEvents lock 안에서만 사용)
+    private volatile boolean ready = false;
+
+    /**
+     * 기동 완료 후 (data.sql 적재 이후) article 테이블 전체를 id 순서대로 나누어 읽어 색인한다. <br/>
+     * 색인 도중 받은 변경 이벤트는 바로 반영하면 이미 읽은 배치가 삭제된 게시글을 되살릴 수 있으므로, 모아 두었다가 색인이 끝난 뒤 순서대로 다시 적용한다.
+     * put()/remove()는 멱등이므로 배치에 이미 반영된 변경을 다시 적용해도 결과가 같다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        List<ArticleSearchDocument> documents;
+        do {
+            documents = articleRepository.findSearchDocuments(lastId, BUILD_BATCH_SIZE);
+            for (ArticleSearchDocument document : documents) {
+                put(document.id(), document.title(), document.content());
+                lastId = document.id();
+            }
+        } while (documents.size() == BUILD_BATCH_SIZE);
+        int replayed;
+        synchronized (heldBackEvents) {
+            heldBackEvents.forEach(this::onArticleEvent);
+            replayed = heldBackEvents.size();
+            heldBackEvents.clear();
+            ready = true;
+        }
+        log.info("게시글 검색 색인 생성 완료 - documents: {}, title grams: {}, content grams: {}, replayed events: {}, elapsed: {}ms",
+                contentIndex.documentCount(), titleIndex.tokenCount(), contentIndex.tokenCount(), replayed, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * outbox 릴레이가 발행한 (커밋된) 게시글 변경만 색인에 반영한다. (롤백된 변경이 색인에 남지 않도록) <br/>
+     * 같은 게시글의 수정/삭제가 offset 순서대로 적용되므로, 마지막 변경이 색인에 남는다. 색인 생성 중이라면 생성이 끝날 때까지 미룬다.
+     */
+    @EventListener
+    public void onOutboxBatch(OutboxBatch batch) {
+        List<ArticleEvent> events = batch.eventsOf(ArticleEvent.class);
+        synchronized (heldBackEvents) {
+            if (!ready) {
+                heldBackEvents.addAll(events);
+                return;
+            }
+        }
+        events.forEach(this::onArticleEvent);
+    }
+
+    private void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED, UPDATED -> put(event.articleId(), event.title(), event.content());
+            case DELETED -> {
+                titleIndex.remove(event.articleId());
+                contentIndex.remove(event.articleId());
+            }
+        }
+    }
+
+    /**
+     * 제목에 검색어가 포함되었을 수 있는 후보 게시글 ID 목록
+     * @return 색인으로 답할 수 없다면 Optional.empty() - 호출자는 DB 검색으로 대체해야 한다.
+     */
+    public Optional<List<Long>> searchTitle(String keyword) {
+        return search(titleIndex, keyword);
+    }
+
+    /**
+     * 본문에 검색어가 포함되었을 수 있는 후보 게시글 ID 목록
+     * @return 색인으로 답할 수 없다면 Optional.empty() - 호출자는 DB 검색으로 대체해야 한다.
+     */
+    public Optional<List<Long>> searchContent(String keyword) {
+        return search(contentIndex, keyword);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void put(Long articleId, String title, String content) {
+        titleIndex.put(articleId, title);
+        contentIndex.put(articleId, content);
+    }
+
+    /**
+     * 색인이 준비되지 않았거나, 검색어에서 gram을 얻지 못했거나(ex: 한 글자), 후보가 너무 많다면 빈 Optional을 반환한다.
+     */
+    private Optional<List<Long>> search(InvertedIndex index, String keyword) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        long[] articleIds = index.search(keyword);
+        if (articleIds == null || articleIds.length > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(articleIds).boxed().toList());
+    }
+}
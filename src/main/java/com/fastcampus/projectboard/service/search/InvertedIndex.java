@@ -0,0 +1,130 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 역색인 (token -> posting list) <br/>
+ * 문서 수정/삭제 시 기존 토큰을 posting list에서 빼내야 하므로 문서별 토큰 목록(forward index)을 함께 보관한다. <br/>
+ * 조회는 read lock, 색인 변경은 write lock으로 보호한다.
+ */
+public class InvertedIndex {
+
+    private final Tokenizer tokenizer;
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * 문서를 색인한다. 이미 색인된 문서라면 기존 토큰을 지우고 다시 색인한다. (멱등)
+     */
+    public void put(long documentId, String text) {
+        Collection<String> tokens = tokenizer.tokenize(text);
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+            String[] terms = new String[tokens.size()];
+            int i = 0;
+            for (String token : tokens) {
+                PostingList postingList = postings.computeIfAbsent(token, key -> new PostingList());
+                postingList.add(documentId);
+                terms[i++] = token;
+            }
+            documents.put(documentId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 문서 ID를 오름차순으로 반환한다. (AND 검색) <br/>
+     * 가장 짧은 posting list부터 교집합을 구해 비교 횟수를 줄인다.
+     * @return 검색어에서 토큰을 하나도 얻지 못했다면 null (색인으로 답할 수 없는 검색어)
+     */
+    public long[] search(String query) {
+        Collection<String> tokens = tokenizer.tokenizeQuery(query);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = tokens.stream()
+                    .map(postings::get)
+                    .toList();
+            if (lists.stream().anyMatch(Objects::isNull)) { // 한번도 등장하지 않은 토큰이 있다면 결과는 없다.
+                return new long[0];
+            }
+            List<PostingList> sorted = lists.stream()
+                    .sorted(Comparator.comparingInt(PostingList::size))
+                    .toList();
+            long[] result = sorted.get(0).toArray();
+            for (int i = 1; i < sorted.size() && result.length > 0; i++) {
+                result = sorted.get(i).intersect(result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(long documentId) {
+        String[] terms = documents.remove(documentId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null && postingList.remove(documentId) && postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 친화 n-gram 토크나이저 <br/>
+ * 한글은 복합어가 띄어쓰기 없이 붙어 쓰이므로 단어 단위로 나누면 부분 검색이 불가능하다. <br/>
+ * 문자열을 같은 문자 종류(한글 / 그 외 문자(라틴 등) / 숫자)가 이어지는 구간(run)으로 나눈 뒤,
+ * 구간마다 bigram과 trigram을 만든다. <br/>
+ * <ul>
+ *     <li>색인: 구간의 모든 bigram + trigram</li>
+ *     <li>검색: 구간 길이가 3 이상이면 trigram만, 2이면 bigram 하나 (더 긴 gram일수록 posting list가 짧다.)</li>
+ *     <li>길이 1인 구간은 gram을 만들지 않는다. 검색어 전체가 그런 경우 색인으로 답할 수 없으므로 DB 검색으로 대체된다.</li>
+ * </ul>
+ * gram이 모두 포함되어도 검색어가 연속해서 등장한다는 보장은 없으므로 색인 결과는 "후보"이며 최종 확인은 호출자가 한다.
+ */
+public class NGramTokenizer implements Tokenizer {
+
+    private static final int BIGRAM = 2;
+    private static final int TRIGRAM = 3;
+
+    @Override
+    public Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String run : runs(text)) {
+            addGrams(tokens, run, BIGRAM);
+            addGrams(tokens, run, TRIGRAM);
+        }
+        return tokens;
+    }
+
+    @Override
+    public Set<String> tokenizeQuery(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String run : runs(query)) {
+            addGrams(tokens, run, run.length() >= TRIGRAM ? TRIGRAM : BIGRAM);
+        }
+        return tokens;
+    }
+
+    /**
+     * 문자열을 같은 문자 종류가 이어지는 구간으로 나눈다. 공백, 문장부호 등은 구간을 끊는다.
+     */
+    private List<String> runs(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        List<String> runs = new ArrayList<>();
+        int start = -1;
+        CharType current = CharType.DELIMITER;
+        for (int i = 0; i < normalized.length(); i++) {
+            CharType type = CharType.of(normalized.charAt(i));
+            if (type != current) {
+                if (current != CharType.DELIMITER) {
+                    runs.add(normalized.substring(start, i));
+                }
+                start = i;
+                current = type;
+            }
+        }
+        if (current != CharType.DELIMITER) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+
+    private void addGrams(Set<String> tokens, String run, int n) {
+        for (int i = 0; i + n <= run.length(); i++) {
+            tokens.add(run.substring(i, i + n));
+        }
+    }
+
+    private enum CharType {
+        HANGUL, LETTER, DIGIT, DELIMITER;
+
+        static CharType of(char c) {
+            if (isHangul(c)) return HANGUL;
+            if (Character.isDigit(c)) return DIGIT;
+            if (Character.isLetter(c)) return LETTER;
+            return DELIMITER;
+        }
+
+        /**
+         * 한글 음절(가-힣), 자모, 호환용 자모
+         */
+        private static boolean isHangul(char c) {
+            return (c >= '가' && c <= '힣')
+                    || (c >= '\u1100' && c <= '\u11FF')
+                    || (c >= '\u3130' && c <= '\u318F');
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 토큰이 등장하는 게시글 ID 목록 <br/>
+ * 박싱 비용과 메모리를 줄이기 위해 오름차순으로 정렬된 long 배열에 보관한다. <br/>
+ * 게시글 ID는 증가하면서 발급되므로 대부분의 추가는 배열 끝에 붙는다. (append fast-path)
+ * 스레드 안전하지 않으므로 InvertedIndex의 lock 안에서만 사용한다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        if (size == 0 || ids[size - 1] < id) { // 가장 흔한 경우: 새 글은 항상 가장 큰 ID를 가진다.
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) { // 이미 존재
+            return;
+        }
+        int insertAt = -(position + 1);
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    boolean remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 정렬된 배열과 이 목록의 교집합을 구한다. (merge 방식 - O(n + m))
+     */
+    long[] intersect(long[] sorted) {
+        long[] result = new long[Math.min(sorted.length, size)];
+        int i = 0, j = 0, k = 0;
+        while (i < sorted.length && j < size) {
+            if (sorted[i] == ids[j]) {
+                result[k++] = sorted[i];
+                i++;
+                j++;
+            } else if (sorted[i] < ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
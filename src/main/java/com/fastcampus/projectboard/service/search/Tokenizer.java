@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.Set;
+
+/**
+ * 검색 색인용 토크나이저 <br/>
+ * 색인할 때와 검색할 때 같은 규칙으로 문자열을 토큰으로 분해해야 한다.
+ */
+public interface Tokenizer {
+
+    /**
+     * 문서(게시글 본문 등)를 색인 토큰으로 분해한다.
+     * @param text 색인할 문자열 (null 허용)
+     * @return 중복이 제거된 토큰 집합
+     */
+    Set<String> tokenize(String text);
+
+    /**
+     * 검색어를 조회용 토큰으로 분해한다. <br/>
+     * 색인 토큰의 부분집합만 사용해도 되는 경우(ex: n-gram) 더 선택도가 높은 토큰만 골라낼 수 있도록 분리했다.
+     * @param query 검색어 (null 허용)
+     * @return 토큰 집합 - 비어있다면 색인으로 답할 수 없는 검색어이다.
+     */
+    default Set<String> tokenizeQuery(String query) {
+        return tokenize(query);
+    }
+}
@@ -0,0 +1,275 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.WriteBehindCheckpoint;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.UserAccountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 write-behind (board.comments.write-behind.enabled=true 일 때만 동작) <br/>
+ * 댓글 등록 요청은 저널에 기록(fsync - 동시 요청끼리 묶어서 한 번)하고 큐에 넣은 뒤 바로 반환한다. 작업 스레드 하나가 큐를 비우며 batchSize 개씩 한 트랜잭션으로 저장한다. (JDBC batch insert) <br/>
+ * 큐에는 capacity 개까지만 담을 수 있고, 가득 차면 offerTimeout 만큼 기다린 뒤 CommentQueueFullException(503)으로 거절한다. <br/>
+ * 기동 시 저널에 남아있는 (저장되지 않은) 댓글을 먼저 저장하고, 종료 시 큐에 남은 댓글을 모두 저장한다. <br/>
+ * 묶음을 저장하는 트랜잭션에서 마지막 seq 를 DB 에도 기록하므로 (WriteBehindCheckpoint), 저널에서 다시 저장할 때 이미 저장된 댓글은 건너뛴다. <br/>
+ * 저장된 댓글은 상세 화면에 linger 이내로 늦게 보인다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCommentWriteBehind implements MeterBinder {
+
+    private static final int COMMENT_CONTENT_MAX_LENGTH = 500;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1); // 종료 요청 확인 주기
+
+    private final WriteBehindProperties properties;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final UserAccountService userAccountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final LinkedBlockingQueue<PendingComment> queue = new LinkedBlockingQueue<>();
+    private Semaphore permits; // 큐의 빈 자리 (저장이 끝나야 반환된다.)
+    private CommentJournal journal;
+    private Thread worker;
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private volatile Timer flushTimer;
+    private volatile Counter rejectedCounter;
+
+    /**
+     * 저널의 남은 댓글을 저장한 뒤 작업 스레드를 시작한다. 그 전까지는 댓글을 바로 저장한다. (isAccepting() == false)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException, InterruptedException {
+        if (!properties.enabled()) { return; }
+        permits = new Semaphore(properties.capacity());
+        journal = CommentJournal.open(properties.journal());
+        WriteBehindCheckpoint checkpoint = entityManager.find(WriteBehindCheckpoint.class, journal.id());
+        List<PendingComment> pending = journal.recover(checkpoint == null ? 0L : checkpoint.getSeq());
+        if (!pending.isEmpty()) {
+            log.info("댓글 write-behind - 저널에 남은 댓글 {}개를 저장합니다.", pending.size());
+            for (int from = 0; from < pending.size(); from += properties.batchSize()) {
+                flushUntilSaved(pending.subList(from, Math.min(from + properties.batchSize(), pending.size())));
+            }
+        }
+
+        worker = new Thread(this::drain, "comment-write-behind");
+        worker.setDaemon(true);
+        running = true;
+        accepting = true;
+        worker.start();
+        log.info("댓글 write-behind 시작 - journal: {}, capacity: {}, batch size: {}", properties.journal().toAbsolutePath(), properties.capacity(), properties.batchSize());
+    }
+
+    public boolean isAccepting() {
+        return accepting;
+    }
+
+    /**
+     * 댓글을 저널에 기록하고, 디스크에 동기화되면 저장 대기열에 넣는다. <br/>
+     * 동기화는 동시에 기록된 댓글끼리 묶어서 한 번에 하고, 동기화된 댓글은 저널 순서(seq)대로 큐에 들어간다. <br/>
+     * 자리를 먼저 확보한 뒤 기록하므로, 거절된 댓글은 저널에도 남지 않는다.
+     * @throws CommentQueueFullException offerTimeout 동안 자리가 나지 않았을 때
+     */
+    public void submit(ArticleCommentDto dto) {
+        try {
+            if (!permits.tryAcquire(properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                if (rejectedCounter != null) { rejectedCounter.increment(); }
+                throw new CommentQueueFullException(properties.capacity());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommentQueueFullException(properties.capacity());
+        }
+
+        try {
+            PendingComment comment = journal.append(dto.articleId(), dto.userAccountDto().userId(), dto.content());
+            journal.sync(comment.seq(), queue::addAll);
+        } catch (IOException e) {
+            permits.release();
+            throw new UncheckedIOException("댓글 저널 기록 실패", e);
+        }
+    }
+
+    /**
+     * 종료 시 새 댓글을 받지 않고, 큐에 남은 댓글을 모두 저장한 뒤 저널을 닫는다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (worker == null) { return; }
+        accepting = false;
+        running = false;
+        worker.join();
+        journal.close();
+    }
+
+    /**
+     * board.comments.write-behind.queue : 저장을 기다리는 댓글 수 <br/>
+     * board.comments.write-behind.flush : 묶음 저장 시간 (count = 묶음 수) <br/>
+     * board.comments.write-behind.rejected : 큐가 가득 차서 거절한 댓글 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.comments.write-behind.queue", queue, LinkedBlockingQueue::size)
+                .description("저장을 기다리는 댓글 수")
+                .register(registry);
+        flushTimer = Timer.builder("board.comments.write-behind.flush")
+                .description("댓글 묶음 저장 시간")
+                .register(registry);
+        rejectedCounter = Counter.builder("board.comments.write-behind.rejected")
+                .description("큐가 가득 차서 거절한 댓글 수")
+                .register(registry);
+    }
+
+    /**
+     * 작업 스레드 - 첫 댓글이 오면 batchSize 개가 되거나 linger 가 지날 때까지 모아서 저장한다. <br/>
+     * 종료 요청을 받으면 큐에 남은 댓글까지 저장하고 끝낸다. (JDBC 작업 중 interrupt 하지 않도록 플래그로 종료한다.)
+     */
+    private void drain() {
+        List<PendingComment> batch = new ArrayList<>(properties.batchSize());
+        try {
+            while (running || !queue.isEmpty()) {
+                collect(batch);
+                if (batch.isEmpty()) { continue; }
+                if (!flushUntilSaved(batch)) {
+                    log.warn("댓글 write-behind 종료 - 저장하지 못한 댓글 {}개는 다음 기동 시 저널에서 저장합니다.", batch.size() + queue.size());
+                    return; // 뒤 묶음을 저장하면 체크포인트가 실패한 묶음을 건너뛰게 된다.
+                }
+                permits.release(batch.size());
+                batch.clear();
+            }
+            log.info("댓글 write-behind 종료 - 큐에 남은 댓글을 모두 저장했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(POLL_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) { return; }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0 || !running) { return; }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) { return; }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * DB 장애 등으로 저장에 실패하면 같은 묶음을 다시 시도한다. (댓글은 저널에 남아있다.) <br/>
+     * 종료 중에 실패하면 포기하고, 다음 기동 시 저널에서 다시 저장한다.
+     * @return 저장했으면 true, 종료 중 실패로 포기했으면 false
+     */
+    private boolean flushUntilSaved(List<PendingComment> batch) throws InterruptedException {
+        while (true) {
+            try {
+                long startedAt = System.nanoTime();
+                flush(batch);
+                if (flushTimer != null) { flushTimer.record(Duration.ofNanos(System.nanoTime() - startedAt)); }
+                return true;
+            } catch (RuntimeException | IOException e) {
+                if (!running && worker != null) {
+                    log.error("댓글 write-behind - 종료 중 묶음 저장 실패. size: {}", batch.size(), e);
+                    return false;
+                }
+                log.error("댓글 write-behind - 묶음 저장 실패, {}초 뒤 다시 시도합니다. size: {}", RETRY_BACKOFF.toSeconds(), batch.size(), e);
+                Thread.sleep(RETRY_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    /**
+     * 한 묶음 저장 - 작성자와 게시글 존재 여부는 묶음 단위로 한 번에 확인하고, 없는 게시글/회원의 댓글은 건너뛴다. <br/>
+     * createdBy/modifiedBy 는 각 댓글의 작성자로 기록한다. 게시글의 댓글 수는 묶음의 게시글 별로 한 번씩 늘린다. <br/>
+     * 체크포인트는 같은 트랜잭션에서 DB 에 기록하고, 커밋이 끝나면 저널에도 기록한다.
+     */
+    private void flush(List<PendingComment> batch) throws IOException {
+        Map<String, Optional<UserAccountDto>> users = new HashMap<>();
+        batch.forEach(comment -> users.computeIfAbsent(comment.userId(), userAccountService::searchUser));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> articleIds = new HashSet<>(articleRepository.findArticleIds(batch.stream().map(PendingComment::articleId).distinct().toList()));
+            List<ArticleComment> saved = new ArrayList<>(batch.size());
+            try {
+                for (PendingComment comment : batch) {
+                    Optional<UserAccountDto> user = users.get(comment.userId());
+                    if (user.isEmpty() || !articleIds.contains(comment.articleId()) || !isValid(comment)) {
+                        log.warn("댓글 write-behind - 저장할 수 없는 댓글을 건너뜁니다: seq={}, articleId={}, userId={}", comment.seq(), comment.articleId(), comment.userId());
+                        continue;
+                    }
+                    runAs(user.get());
+                    ArticleComment articleComment = articleCommentRepository.save(ArticleComment.of(
+                            articleRepository.getReferenceById(comment.articleId()), userAccountRepository.getReferenceById(comment.userId()), comment.content()
+                    ));
+                    eventPublisher.publishEvent(ArticleCommentEvent.created(articleComment));
+                    saved.add(articleComment);
+                }
+                articleRepository.increaseCommentCounts(saved); // 게시글 당 update 문 하나
+                entityManager.merge(WriteBehindCheckpoint.of(journal.id(), batch.get(batch.size() - 1).seq()));
+                entityManager.flush();
+                entityManager.clear();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+        journal.checkpoint(batch.get(batch.size() - 1).seq());
+    }
+
+    private boolean isValid(PendingComment comment) {
+        return comment.content() != null && !comment.content().isBlank() && comment.content().length() <= COMMENT_CONTENT_MAX_LENGTH;
+    }
+
+    /**
+     * Auditing(createdBy/modifiedBy)이 댓글 작성자를 기록하도록 인증 정보를 바꾼다.
+     */
+    private void runAs(UserAccountDto user) {
+        BoardPrincipal principal = BoardPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+    }
+}
@@ -0,0 +1,264 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 write-behind 저널 (append-only NDJSON 파일) <br/>
+ * 댓글은 큐에 넣기 전에 저널에 기록하고 디스크에 동기화(fsync)하므로, 저장 전에 프로세스가 죽어도 다음 기동 시 다시 저장할 수 있다. <br/>
+ * 동기화는 묶어서 한다. (group commit) 기록은 lock 안에서 파일 끝에 쓰기만 하고, 동기화를 기다리는 호출 중 하나가 lock 밖에서 그때까지 기록된 댓글을 한 번에 fsync 한다. <br/>
+ * 저널 파일이 segmentSize 를 넘으면 닫고 (journal.ndjson.{마지막 seq}) 새 파일에 이어 쓴다. 닫은 파일은 체크포인트가 마지막 seq 를 지나면 지운다. <br/>
+ * DB 에 저장한 마지막 seq 는 체크포인트 파일에 기록하고, 저널의 모든 댓글이 저장되면 저널을 비운다.
+ * 체크포인트 파일은 커밋 뒤에 기록하므로, 그 사이에 죽었을 때 다시 저장하지 않도록 같은 seq 를 DB 에도 커밋과 함께 기록한다. (WriteBehindCheckpoint)
+ */
+@Slf4j
+class CommentJournal implements Closeable {
+
+    static final long SEGMENT_SIZE = 16 * 1024 * 1024; // 저널 파일 하나의 최대 크기 (넘으면 새 파일에 이어 쓴다.)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path path;
+    private final Path checkpointPath;
+    private final long segmentSize;
+    private final String id;
+    private final List<PendingComment> pending;
+    private final TreeMap<Long, Path> segments; // 닫은 저널 파일 (마지막 seq -> 경로)
+    private final List<PendingComment> unsynced = new ArrayList<>(); // 기록했지만 아직 동기화하지 않은 댓글
+    private FileChannel channel;
+    private long lastSeq; // 저널에 기록한 마지막 seq
+    private long syncedSeq; // 디스크에 동기화한 마지막 seq
+    private long checkpoint; // DB 에 저장한 마지막 seq
+    private boolean syncing; // 동기화 중인 호출이 있는지 여부
+    private IOException failure; // 동기화 실패 - 이후 기록/동기화는 모두 실패한다. (다시 기동하면 저널에서 복구한다.)
+
+    private CommentJournal(Path path, Path checkpointPath, long segmentSize, String id, FileChannel channel,
+                           List<PendingComment> pending, TreeMap<Long, Path> segments, long lastSeq, long checkpoint) {
+        this.path = path;
+        this.checkpointPath = checkpointPath;
+        this.segmentSize = segmentSize;
+        this.id = id;
+        this.channel = channel;
+        this.pending = pending;
+        this.segments = segments;
+        this.lastSeq = lastSeq;
+        this.syncedSeq = lastSeq;
+        this.checkpoint = checkpoint;
+    }
+
+    static CommentJournal open(Path path) throws IOException {
+        return open(path, SEGMENT_SIZE);
+    }
+
+    /**
+     * 저널을 열고, 체크포인트 이후에 기록된 (아직 저장되지 않은) 댓글을 닫은 파일부터 순서대로 읽어 둔다. <br/>
+     * 기록 도중 죽어서 잘린 마지막 줄은 건너뛴다. 체크포인트까지 저장된 닫은 파일은 지운다.
+     */
+    static CommentJournal open(Path path, long segmentSize) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) { Files.createDirectories(directory); }
+        Path checkpointPath = path.resolveSibling(path.getFileName() + ".checkpoint");
+        long checkpoint = Files.exists(checkpointPath) ? Long.parseLong(Files.readString(checkpointPath).trim()) : 0;
+
+        TreeMap<Long, Path> segments = findSegments(path);
+        long lastSeq = checkpoint;
+        List<PendingComment> pending = new ArrayList<>();
+        List<Path> files = new ArrayList<>(segments.values());
+        files.add(path);
+        for (Path file : files) {
+            if (!Files.exists(file)) { continue; }
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) { continue; }
+                try {
+                    PendingComment comment = OBJECT_MAPPER.readValue(line, PendingComment.class);
+                    lastSeq = Math.max(lastSeq, comment.seq());
+                    if (comment.seq() > checkpoint) { pending.add(comment); }
+                } catch (JsonProcessingException e) {
+                    log.warn("댓글 저널 - 읽을 수 없는 줄을 건너뜁니다: {} ({})", e.getOriginalMessage(), file.getFileName());
+                }
+            }
+        }
+        deleteSegmentsUpTo(segments, checkpoint);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new CommentJournal(path, checkpointPath, segmentSize, readOrCreateId(path), channel, pending, segments, lastSeq, checkpoint);
+    }
+
+    /**
+     * 저널 ID - 저널 파일과 함께 만들어지며, DB 의 체크포인트 행을 찾는 키로 쓴다. (인스턴스마다 저널이 따로 있다.)
+     */
+    String id() {
+        return id;
+    }
+
+    /**
+     * 기동 시 읽은, 아직 저장되지 않은 댓글 (seq 순)
+     */
+    List<PendingComment> pending() {
+        return pending;
+    }
+
+    /**
+     * DB 에 기록된 체크포인트(savedSeq)까지는 이미 저장된 것으로 보고, 남은 댓글만 돌려준다. (기동 시 한 번 호출한다.) <br/>
+     * 커밋 뒤 체크포인트 파일을 쓰기 전에 죽은 경우 DB 쪽이 앞서 있으므로, 파일에도 기록하고 seq 도 그 뒤부터 이어서 붙인다.
+     */
+    synchronized List<PendingComment> recover(long savedSeq) throws IOException {
+        if (savedSeq > checkpoint) {
+            lastSeq = Math.max(lastSeq, savedSeq);
+            syncedSeq = lastSeq;
+            pending.removeIf(comment -> comment.seq() <= savedSeq);
+            checkpoint(savedSeq);
+        }
+        return pending;
+    }
+
+    /**
+     * 다음 seq 를 붙여 저널 끝에 기록한다. 디스크 동기화는 sync() 로 묶어서 한다.
+     */
+    synchronized PendingComment append(Long articleId, String userId, String content) throws IOException {
+        if (failure != null) { throw new IOException("댓글 저널 동기화에 실패해 더 이상 기록할 수 없습니다.", failure); }
+        PendingComment comment = PendingComment.of(lastSeq + 1, articleId, userId, content);
+        ByteBuffer line = ByteBuffer.wrap((OBJECT_MAPPER.writeValueAsString(comment) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        lastSeq = comment.seq();
+        unsynced.add(comment);
+        return comment;
+    }
+
+    /**
+     * seq 까지 디스크에 동기화될 때까지 기다린다. (group commit) <br/>
+     * 동기화 중인 호출이 없다면 이 호출이 그때까지 기록된 댓글을 lock 밖에서 한 번에 fsync 하고, 있다면 그 동기화가 끝나기를 기다린다. <br/>
+     * 동기화한 댓글은 seq 순서대로 onSynced 에 넘긴다. (lock 안에서 호출하므로 넘겨받는 순서가 seq 순서와 같다.)
+     */
+    void sync(long seq, Consumer<List<PendingComment>> onSynced) throws IOException {
+        List<PendingComment> group;
+        FileChannel target;
+        boolean interrupted = false;
+        synchronized (this) {
+            while (syncing && syncedSeq < seq && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true; // 기록한 댓글은 동기화되어 저장되므로, 끝까지 기다린 뒤 interrupt 상태만 되돌린다.
+                }
+            }
+            if (interrupted) { Thread.currentThread().interrupt(); }
+            if (failure != null) { throw new IOException("댓글 저널 동기화 실패", failure); }
+            if (syncedSeq >= seq) { return; }
+            syncing = true;
+            group = List.copyOf(unsynced);
+            unsynced.clear();
+            target = channel;
+        }
+
+        IOException forceFailure = null;
+        try {
+            target.force(false);
+        } catch (IOException e) {
+            forceFailure = e;
+        }
+
+        synchronized (this) {
+            try {
+                if (forceFailure != null) {
+                    failure = forceFailure;
+                    throw forceFailure;
+                }
+                syncedSeq = group.get(group.size() - 1).seq();
+                onSynced.accept(group);
+                if (channel.size() >= segmentSize) { rotate(); }
+            } finally {
+                syncing = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * seq 까지 DB 에 저장되었음을 기록한다. 그 전까지의 닫은 저널 파일은 지우고, 그 뒤로 기록된 댓글이 없다면 저널을 비운다.
+     */
+    synchronized void checkpoint(long seq) throws IOException {
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            file.write(ByteBuffer.wrap(Long.toString(seq).getBytes(StandardCharsets.UTF_8)));
+            file.force(true);
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = seq;
+        deleteSegmentsUpTo(segments, checkpoint);
+        if (checkpoint == lastSeq) {
+            channel.truncate(0);
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 지금 저널 파일을 동기화해서 닫고 ({파일명}.{마지막 seq}), 같은 경로에 새 파일을 연다. (동기화 중인 호출만 lock 안에서 호출한다.) <br/>
+     * 아직 동기화하지 않은 댓글도 이때 함께 동기화되며, 다음 sync() 가 큐에 넘긴다.
+     */
+    private void rotate() throws IOException {
+        channel.force(false);
+        channel.close();
+        Path segment = path.resolveSibling(path.getFileName() + "." + lastSeq);
+        Files.move(path, segment, StandardCopyOption.ATOMIC_MOVE);
+        segments.put(lastSeq, segment);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("댓글 저널 - 새 파일로 이어 씁니다. closed: {}", segment.getFileName());
+    }
+
+    private static TreeMap<Long, Path> findSegments(Path path) throws IOException {
+        Pattern pattern = Pattern.compile(Pattern.quote(path.getFileName().toString()) + "\\.(\\d+)");
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> siblings = Files.list(path.toAbsolutePath().getParent())) {
+            siblings.forEach(sibling -> {
+                Matcher matcher = pattern.matcher(sibling.getFileName().toString());
+                if (matcher.matches()) { segments.put(Long.parseLong(matcher.group(1)), sibling); }
+            });
+        }
+        return segments;
+    }
+
+    private static void deleteSegmentsUpTo(TreeMap<Long, Path> segments, long seq) throws IOException {
+        Map<Long, Path> saved = segments.headMap(seq, true);
+        for (Path segment : saved.values()) {
+            Files.deleteIfExists(segment);
+        }
+        saved.clear();
+    }
+
+    private static String readOrCreateId(Path path) throws IOException {
+        Path idPath = path.resolveSibling(path.getFileName() + ".id");
+        if (Files.exists(idPath)) {
+            return Files.readString(idPath).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(idPath, id, StandardCharsets.UTF_8);
+        return id;
+    }
+}
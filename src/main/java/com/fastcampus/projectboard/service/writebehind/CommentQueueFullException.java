@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 댓글 write-behind 큐가 가득 차서 댓글을 받을 수 없다. (503 - 잠시 후 다시 시도)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CommentQueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CommentQueueFullException(int capacity) {
+        super("댓글 저장 대기열이 가득 찼습니다 - capacity: " + capacity);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+/**
+ * 저장을 기다리는 댓글 (저널 파일의 한 줄) <br/>
+ * seq 는 저널에 기록된 순서이며, 체크포인트는 DB 에 저장된 마지막 seq 이다.
+ */
+public record PendingComment(
+        long seq,
+        Long articleId,
+        String userId,
+        String content
+) {
+
+    public static PendingComment of(long seq, Long articleId, String userId, String content) {
+        return new PendingComment(seq, articleId, userId, content);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 댓글 write-behind 설정 (board.comments.write-behind)
+ * @param enabled true 면 댓글을 저널에 기록하고 바로 응답한 뒤, 묶어서 저장한다.
+ * @param capacity 저장을 기다릴 수 있는 최대 댓글 수 - 가득 차면 offerTimeout 만큼 기다린 뒤 거절(503)한다.
+ * @param batchSize 한 트랜잭션에서 저장할 최대 댓글 수
+ * @param linger 묶음이 batchSize 만큼 찰 때까지 기다리는 최대 시간
+ * @param offerTimeout 큐가 가득 찼을 때 자리가 나기를 기다리는 시간
+ * @param journal 저널 파일 경로 (저장 위치 체크포인트는 같은 경로의 .checkpoint 파일, 저널 ID 는 .id 파일, 닫은 저널 파일은 .{마지막 seq} 파일)
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.comments.write-behind")
+public record WriteBehindProperties(
+        boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("50ms") Duration linger,
+        @DefaultValue("100ms") Duration offerTimeout,
+        @DefaultValue("comment-journal.ndjson") Path journal
+) {}
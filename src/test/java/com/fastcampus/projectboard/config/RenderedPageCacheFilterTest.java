@@ -0,0 +1,233 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.response.ArticleResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렌더링 페이지 캐시 필터")
+class RenderedPageCacheFilterTest {
+
+    private static final String NO_ARTICLE_IDS = "noArticleIds";
+
+    private final RenderedPageCacheFilter sut = new RenderedPageCacheFilter();
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("비로그인 사용자가 같은 목록 페이지를 두 번 요청하면, 두 번째는 렌더링 없이 캐시된 HTML을 응답한다.")
+    @Test
+    void givenAnonymousUser_whenRequestingSamePageTwice_thenRendersOnce() throws Exception {
+        // Given
+        MockHttpServletResponse first = request(get("/articles", "page", "1", "sort", "title"));
+
+        // When
+        MockHttpServletResponse second = request(get("/articles", "sort", "title", "page", "1")); // 파라미터 순서만 다르다.
+
+        // Then
+        assertThat(renderCount).hasValue(1);
+        assertThat(first.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).startsWith("text/html");
+    }
+
+    @DisplayName("검색 조건이 다르면, 따로 렌더링한다.")
+    @Test
+    void givenDifferentParameters_whenRequesting_thenRendersEach() throws Exception {
+        // Given
+        request(get("/articles", "page", "0"));
+
+        // When
+        request(get("/articles", "page", "1"));
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @DisplayName("게시글이 바뀐 묶음을 받으면, 캐시된 페이지를 비운다.")
+    @Test
+    void givenArticleEventBatch_whenRequestingAgain_thenRendersAgain() throws Exception {
+        // Given
+        request(get("/articles/search-hashtag", "searchValue", "#java"));
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(10L, 11L, List.of(ArticleEvent.deleted(1L))));
+        MockHttpServletResponse actual = request(get("/articles/search-hashtag", "searchValue", "#java"));
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(actual.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("댓글이 달리거나 지워진 묶음을 받으면, 그 게시글이 있는 페이지만 비운다.")
+    @Test
+    void givenCommentCreatedOrDeletedBatch_whenRequestingAgain_thenRendersOnlyPagesWithArticle() throws Exception {
+        // Given
+        request(get("/articles", "page", "0"), 1L, 2L);
+        request(get("/articles", "page", "1"), 3L, 4L);
+        sut.onOutboxBatch(OutboxBatch.of(10L, 11L, List.of(ArticleCommentEvent.of(EventType.CREATED, 1L, 1L, "content"))));
+        request(get("/articles", "page", "0"), 1L, 2L);
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(11L, 12L, List.of(ArticleCommentEvent.deleted(1L, 2L))));
+        MockHttpServletResponse withArticle = request(get("/articles", "page", "0"), 1L, 2L);
+        MockHttpServletResponse withoutArticle = request(get("/articles", "page", "1"), 3L, 4L);
+
+        // Then
+        assertThat(renderCount).hasValue(4);
+        assertThat(withArticle.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(withoutArticle.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+    }
+
+    @DisplayName("댓글이 달린 묶음을 받으면, 그 게시글이 없어도 댓글 수로 정렬한 페이지는 비운다.")
+    @Test
+    void givenCommentCreatedBatch_whenRequestingPageSortedByCommentCount_thenRendersAgain() throws Exception {
+        // Given
+        request(get("/articles", "sort", "commentCount,desc"), 3L, 4L);
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(10L, 11L, List.of(ArticleCommentEvent.of(EventType.CREATED, 1L, 1L, "content"))));
+        MockHttpServletResponse actual = request(get("/articles", "sort", "commentCount,desc"), 1L, 3L);
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(actual.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("게시글이 수정된 묶음을 받으면, 그 게시글이 있는 페이지와 검색 결과 페이지만 비운다.")
+    @Test
+    void givenArticleUpdatedBatch_whenRequestingAgain_thenRendersPagesWithArticleAndSearchResults() throws Exception {
+        // Given
+        request(get("/articles", "page", "0"), 1L, 2L);
+        request(get("/articles", "page", "1"), 3L, 4L);
+        request(get("/articles", "searchType", "TITLE", "searchValue", "spring"), 3L);
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(10L, 11L, List.of(ArticleEvent.of(EventType.UPDATED, 1L, "title", "content", "#java"))));
+        MockHttpServletResponse withArticle = request(get("/articles", "page", "0"), 1L, 2L);
+        MockHttpServletResponse withoutArticle = request(get("/articles", "page", "1"), 3L, 4L);
+        MockHttpServletResponse searchResult = request(get("/articles", "searchType", "TITLE", "searchValue", "spring"), 3L);
+
+        // Then
+        assertThat(renderCount).hasValue(5);
+        assertThat(withArticle.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(withoutArticle.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(searchResult.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("댓글 수정만 담긴 묶음을 받으면, 목록이 바뀌지 않으므로 캐시된 페이지를 그대로 쓴다.")
+    @Test
+    void givenCommentUpdatedOnlyBatch_whenRequestingAgain_thenReturnsCachedPage() throws Exception {
+        // Given
+        request(get("/articles"));
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(10L, 12L, List.of(
+                ArticleCommentEvent.updated(1L, "edited"),
+                ArticleCommentEvent.updated(2L, "edited")
+        )));
+        MockHttpServletResponse actual = request(get("/articles"));
+
+        // Then
+        assertThat(renderCount).hasValue(1);
+        assertThat(actual.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+    }
+
+    @DisplayName("로그인 사용자의 요청은 캐시하지 않는다.")
+    @Test
+    void givenAuthenticatedUser_whenRequestingTwice_thenRendersEachTime() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("uno", "pw", "ROLE_USER"));
+
+        // When
+        request(get("/articles"));
+        MockHttpServletResponse actual = request(get("/articles"));
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(actual.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isNull();
+    }
+
+    @DisplayName("렌더링한 게시글 ID가 기록되지 않은 응답은 캐시하지 않는다.")
+    @Test
+    void givenResponseWithoutArticleIds_whenRequestingTwice_thenRendersEachTime() throws Exception {
+        // Given
+        MockHttpServletRequest first = get("/articles");
+        first.setAttribute(NO_ARTICLE_IDS, true);
+        MockHttpServletRequest second = get("/articles");
+        second.setAttribute(NO_ARTICLE_IDS, true);
+
+        // When
+        request(first);
+        MockHttpServletResponse actual = request(second);
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(actual.getHeader(RenderedPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("캐시 대상이 아닌 경로는 캐시하지 않는다.")
+    @Test
+    void givenNotCacheablePath_whenRequestingTwice_thenRendersEachTime() throws Exception {
+        // Given
+
+        // When
+        request(get("/articles/1"));
+        request(get("/articles/1"));
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+    }
+
+    private MockHttpServletRequest get(String uri, String... parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse request(MockHttpServletRequest request, Long... articleIds) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                renderCount.incrementAndGet();
+                if (req.getAttribute(NO_ARTICLE_IDS) == null) {
+                    RenderedPageCacheFilter.recordArticleIds(req, Arrays.stream(articleIds).map(RenderedPageCacheFilterTest::createArticleResponse).toList());
+                }
+                resp.setContentType("text/html;charset=UTF-8");
+                resp.getWriter().write("<html>" + req.getRequestURI() + "</html>");
+            }
+        }));
+        return response;
+    }
+
+    private static ArticleResponse createArticleResponse(Long id) {
+        return ArticleResponse.of(id, "title", "content", "#java", LocalDateTime.now(), "uno@mail.com", "Uno", 0L, null);
+    }
+}
@@ -1,7 +1,7 @@
 package com.fastcampus.projectboard.config;
 
-import com.fastcampus.projectboard.domain.UserAccount;
-import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.service.UserAccountService;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.event.annotation.BeforeTestMethod;
@@ -15,11 +15,11 @@ import static org.mockito.BDDMockito.given;
 public class TestSecurityConfig {
 
     @MockBean
-    private UserAccountRepository userAccountRepository;
+    private UserAccountService userAccountService;
 
     @BeforeTestMethod
     public void securitySetUp() {
-        given(userAccountRepository.findById(anyString())).willReturn(Optional.of(UserAccount.of(
+        given(userAccountService.searchUser(anyString())).willReturn(Optional.of(UserAccountDto.of(
                 "YooHyeokTest",
                 "pw",
                 "webdevyoo@gmail.com",
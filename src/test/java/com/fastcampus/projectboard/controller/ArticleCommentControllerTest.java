@@ -5,6 +5,8 @@ import com.fastcampus.projectboard.config.TestSecurityConfig;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.request.ArticleCommentRequest;
 import com.fastcampus.projectboard.service.ArticleCommentService;
+import com.fastcampus.projectboard.service.writebehind.ArticleCommentWriteBehind;
+import com.fastcampus.projectboard.service.writebehind.CommentQueueFullException;
 import com.fastcampus.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +22,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -36,6 +40,8 @@ class ArticleCommentControllerTest {
 
     @MockBean
     private ArticleCommentService articleCommentService;
+    @MockBean
+    private ArticleCommentWriteBehind articleCommentWriteBehind;
 
 
     ArticleCommentControllerTest(
@@ -67,6 +73,48 @@ class ArticleCommentControllerTest {
         then(articleCommentService).should().saveArticleComment(any(ArticleCommentDto.class));
     }
 
+    @WithUserDetails(value = "YoohyeokTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][POST] 댓글 등록 - write-behind 모드에서는 저장하지 않고 대기열에 넣는다.")
+    @Test
+    void givenWriteBehindMode_whenRequesting_thenSubmitsArticleComment() throws Exception {
+        // Given
+        long articleId = 1L;
+        ArticleCommentRequest request = ArticleCommentRequest.of(articleId, "test comment");
+        given(articleCommentWriteBehind.isAccepting()).willReturn(true);
+
+        // When & Then
+        mvc.perform(
+                        post("/comments/new")
+                                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                .content(formDataEncoder.encode(request))
+                                .with(csrf())
+                )
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/articles/" + articleId));
+        then(articleCommentWriteBehind).should().submit(any(ArticleCommentDto.class));
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
+    @WithUserDetails(value = "YoohyeokTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][POST] 댓글 등록 - write-behind 대기열이 가득 차면 503")
+    @Test
+    void givenFullWriteBehindQueue_whenRequesting_thenReturnsServiceUnavailable() throws Exception {
+        // Given
+        ArticleCommentRequest request = ArticleCommentRequest.of(1L, "test comment");
+        given(articleCommentWriteBehind.isAccepting()).willReturn(true);
+        willThrow(new CommentQueueFullException(10)).given(articleCommentWriteBehind).submit(any(ArticleCommentDto.class));
+
+        // When & Then
+        mvc.perform(
+                        post("/comments/new")
+                                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                .content(formDataEncoder.encode(request))
+                                .with(csrf())
+                )
+                .andExpect(status().isServiceUnavailable());
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
     @WithUserDetails(value = "YoohyeokTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("[view][GET] 댓글 삭제 - 정상 호출")
     @Test
@@ -3,9 +3,16 @@ package com.fastcampus.projectboard.controller;
 import com.fastcampus.projectboard.config.SecurityConfig;
 import com.fastcampus.projectboard.config.TestSecurityConfig;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.constant.TrendingWindow;
+import com.fastcampus.projectboard.dto.ArticleCursor;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
 import com.fastcampus.projectboard.request.ArticleRequest;
@@ -23,8 +30,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -32,6 +42,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -150,6 +161,60 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서(keyset) 페이지네이션 모드")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithCursors() throws Exception {
+        // Given
+        String after = "2022-01-25T16:10:23,5";
+        ArticleCursor nextCursor = ArticleCursor.of(LocalDateTime.of(2022, 1, 20, 0, 0), 3L);
+        given(articleService.searchArticlesByCursor(eq(null), eq(null), eq(ArticleCursor.parse(after)), eq(null), anyInt()))
+                .willReturn(CursorPage.of(List.of(createArticleSummaryDto()), null, nextCursor));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("after", after))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorPaging", true))
+                .andExpect(model().attribute("nextCursor", nextCursor))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticlesByCursor(eq(null), eq(null), eq(ArticleCursor.parse(after)), eq(null), anyInt());
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 형식이 맞지 않는 커서는 400을 응답한다.")
+    @Test
+    void givenMalformedCursor_whenRequestingArticlesView_thenReturnsBadRequest() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("after", "2022-01-25,abc"))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - count 없는 Slice 모드")
+    @Test
+    void givenSliceParameter_whenRequestingArticlesView_thenReturnsArticlesViewWithSlice() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Order.desc("createdAt")));
+        given(articleService.searchArticleSlice(null, null, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, true));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("slice", "").queryParam("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("slicePaging", true))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticleSlice(null, null, pageable);
+        then(articleService).shouldHaveNoMoreInteractions();
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     public void givenNothing_whenReqeustArticlePage_thenRedirectsToLoginPage() throws Exception{
@@ -171,7 +236,8 @@ class ArticleControllerTest {
         // Given
         Long articleId = 1L;
         long totalCount = 1L; // 임의의 값 (0이어도 됨...)
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, null)).willReturn(createArticleWithCommentsDto());
         given(articleService.getArticleCount()).willReturn(totalCount);
         // When & Then
         mvc.perform(get("/articles/" + articleId))
@@ -180,11 +246,108 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments")) // 댓글 ModelAttribute 야부 확인
-                .andExpect(model().attribute("totalCount", totalCount));
-        then(articleService).should().getArticleWithComments(articleId);
+                .andExpect(model().attribute("totalCount", totalCount))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED)); // 댓글 삭제는 수정 일시를 바꾸지 않으므로 ETag로만 판단한다.
+        then(articleService).should().getArticleWithComments(articleId, null);
         then(articleService).should().getArticleCount();
     }
 
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 댓글 커서와 함께 호출하면, 다음 댓글 페이지와 최신 댓글 링크 정보를 넘긴다.")
+    @Test
+    public void givenCommentCursor_whenRequestingArticleView_thenReturnsNextCommentPage() throws Exception {
+        // Given
+        Long articleId = 1L;
+        String commentCursor = "2022-01-25T16:10:23,5";
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, ArticleCursor.parse(commentCursor))).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleCount()).willReturn(1L);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).queryParam("commentCursor", commentCursor))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("commentPaging", true));
+        then(articleService).should().getArticleWithComments(articleId, ArticleCursor.parse(commentCursor));
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 형식이 맞지 않는 댓글 커서는 400을 응답한다.")
+    @Test
+    public void givenMalformedCommentCursor_whenRequestingArticleView_thenReturnsBadRequest() throws Exception {
+        // Given
+        Long articleId = 1L;
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).queryParam("commentCursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 게시글과 댓글이 바뀌지 않았다면, 상세 조회 없이 304를 응답한다.")
+    @Test
+    public void givenMatchingETag_whenRequestingArticleView_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, null)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleCount()).willReturn(1L);
+        MockHttpSession session = new MockHttpSession(); // 같은 세션 - 같은 CSRF 토큰
+        String eTag = mvc.perform(get("/articles/" + articleId).session(session))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        then(articleService).should(times(1)).getArticleWithComments(articleId, null); // 첫 요청에서만 조회
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 댓글이 달리면, ETag가 달라져서 새로 렌더링한다.")
+    @Test
+    public void givenNewComment_whenRequestingArticleViewWithOldETag_thenReturnsArticleView() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ArticleVersionDto version = createArticleVersionDto();
+        given(articleService.getArticleVersion(articleId)).willReturn(
+                version,
+                ArticleVersionDto.of(articleId, version.version(), version.modifiedAt(), version.commentCount() + 1, LocalDateTime.now())
+        );
+        given(articleService.getArticleWithComments(articleId, null)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleCount()).willReturn(1L);
+        MockHttpSession session = new MockHttpSession();
+        String eTag = mvc.perform(get("/articles/" + articleId).session(session))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
+        then(articleService).should(times(2)).getArticleWithComments(articleId, null);
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 다시 로그인해서 CSRF 토큰이 바뀌면, 게시글이 그대로여도 새로 렌더링한다.")
+    @Test
+    public void givenNewCsrfToken_whenRequestingArticleViewWithOldETag_thenReturnsArticleView() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, null)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleCount()).willReturn(1L);
+        String eTag = mvc.perform(get("/articles/" + articleId).session(new MockHttpSession()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(new MockHttpSession()).header(HttpHeaders.IF_NONE_MATCH, eTag)) // 새 세션 - 새 CSRF 토큰
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
+        then(articleService).should(times(2)).getArticleWithComments(articleId, null);
+    }
+
     @Disabled("구현중")
     @DisplayName("[view][GET] 게시글 검색 전용 페이지 - 정상 호출")
     @Test
@@ -202,7 +365,7 @@ class ArticleControllerTest {
         //Given
         List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
-        given(articleService.getHashtags()).willReturn(hashtags);
+        given(articleService.getHashtags(HashtagSort.NAME)).willReturn(hashtags);
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
         //When & Then
@@ -216,7 +379,7 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
         then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
-        then(articleService).should().getHashtags();
+        then(articleService).should().getHashtags(HashtagSort.NAME);
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -227,7 +390,9 @@ class ArticleControllerTest {
         String hashtag = "#java";
         List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
-        given(articleService.getHashtags()).willReturn(hashtags);
+        Map<TrendingWindow, List<HashtagCountDto>> trendingHashtags = Map.of(TrendingWindow.HOUR, List.of(HashtagCountDto.of(hashtag, 3L)));
+        given(articleService.getHashtags(HashtagSort.NAME)).willReturn(hashtags);
+        given(articleService.getTrendingHashtags()).willReturn(trendingHashtags);
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
         // When & Then
         mvc.perform(
@@ -239,13 +404,39 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/search-hashtag"))
                 .andExpect(model().attribute("articles", Page.empty()))
                 .andExpect(model().attribute("hashtags", hashtags))
+                .andExpect(model().attribute("trendingHashtags", trendingHashtags))
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
         then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
-        then(articleService).should().getHashtags();
+        then(articleService).should().getHashtags(HashtagSort.NAME);
+        then(articleService).should().getTrendingHashtags();
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[json][GET] 해시태그 자동완성 - 정상 호출")
+    @Test
+    void givenPrefix_whenRequestingHashtagSuggestions_thenReturnsHashtagsWithArticleCount() throws Exception {
+        // Given
+        String prefix = "#ja";
+        given(articleService.suggestHashtags(prefix, 5)).willReturn(List.of(
+                HashtagCountDto.of("#java", 3L),
+                HashtagCountDto.of("#jakarta", 1L)
+        ));
+
+        // When & Then
+        mvc.perform(
+                        get("/articles/hashtags/suggest")
+                                .queryParam("prefix", prefix)
+                                .queryParam("size", "5")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtag").value("#java"))
+                .andExpect(jsonPath("$[0].articleCount").value(3))
+                .andExpect(jsonPath("$[1].hashtag").value("#jakarta"));
+        then(articleService).should().suggestHashtags(prefix, 5);
+    }
+
     @WithMockUser
     @DisplayName("[view][GET] 새 게시글 작성 페이지")
     @Test
@@ -344,6 +535,10 @@ class ArticleControllerTest {
     }
 
 
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(1L, "title", "#java", LocalDateTime.now(), "uno", "Uno", 2L, LocalDateTime.now());
+    }
+
     private ArticleDto createArticleDto() {
         return ArticleDto.of(
                 createUserAccountDto(),
@@ -353,6 +548,10 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleVersionDto createArticleVersionDto() {
+        return ArticleVersionDto.of(1L, 0L, LocalDateTime.now().minusDays(1), 1L, LocalDateTime.now().minusHours(1));
+    }
+
     private ArticleWithCommentsDto createArticleWithCommentsDto() {
         return ArticleWithCommentsDto.of(
                 1L,
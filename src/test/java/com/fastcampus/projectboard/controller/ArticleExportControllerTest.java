@@ -0,0 +1,62 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.domain.constant.ExportFormat;
+import com.fastcampus.projectboard.service.exporter.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("View 컨트롤러 - 게시글 내보내기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleExportController.class)
+class ArticleExportControllerTest {
+
+    @MockBean private ArticleExportService articleExportService;
+
+    private final MockMvc mvc;
+
+    ArticleExportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[view][GET] 게시글 내보내기 - 인증이 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenNothing_whenRequestingExport_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles/export"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 내보내기 - CSV, 댓글 포함")
+    @Test
+    void givenFormatAndWithComments_whenRequestingExport_thenStreamsAttachment() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles/export").queryParam("format", "CSV").queryParam("withComments", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.csv\""));
+        then(articleExportService).should().export(eq(ExportFormat.CSV), eq(true), any(OutputStream.class));
+    }
+}
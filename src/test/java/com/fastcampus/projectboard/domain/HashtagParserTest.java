@@ -0,0 +1,40 @@
+package com.fastcampus.projectboard.domain;
+
+import com.fastcampus.projectboard.repository.querydsl.HashtagQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("도메인 - 해시태그 추출")
+class HashtagParserTest {
+
+    @DisplayName("여러 문자열에서 해시태그를 추출하면, 소문자로 정규화하고 중복을 제거한다.")
+    @Test
+    void givenTexts_whenParsing_thenReturnsNormalizedDistinctHashtags() {
+        // Given
+        String hashtag = "#Java";
+        String title = "#스프링 부트와 #java";
+        String content = "본문 #Spring_Boot, #JAVA! 그리고 # 는 무시";
+
+        // When & Then
+        assertThat(HashtagParser.parse(hashtag, title, null, content))
+                .containsExactly("#java", "#스프링", "#spring_boot");
+    }
+
+    @DisplayName("해시태그 검색어를 분해하면, 공백은 AND, '|'는 OR 검색으로 본다.")
+    @Test
+    void givenKeyword_whenParsingHashtagQuery_thenReturnsHashtagsAndMatchMode() {
+        // Given
+
+        // When
+        HashtagQuery and = HashtagQuery.parse("#Java  spring");
+        HashtagQuery or = HashtagQuery.parse("#java|##jpa");
+
+        // Then
+        assertThat(and.hashtags()).containsExactly("#java", "#spring");
+        assertThat(and.matchAll()).isTrue();
+        assertThat(or.hashtags()).containsExactly("#java", "#jpa");
+        assertThat(or.matchAll()).isFalse();
+    }
+}
@@ -1,34 +1,70 @@
 package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.config.JpaConfig;
+import com.fastcampus.projectboard.config.QueryCountConfig;
+import com.fastcampus.projectboard.config.QueryCounter;
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.ArticleStats;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDeleteResultDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import com.fastcampus.projectboard.repository.querydsl.ArticleSearchCondition;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @ActiveProfiles("testdb") // application.yaml에 전역 설정된 testdb profile을 사용한다.
 //@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) //자동으로 testdb를 띄우지않게끔 한다. application.yaml에 전역 설정됨.
 @DisplayName("JPA 연결 테스트")
-@Import(JpaRepositoryTest.TestJpaConfig.class) //Auditing을 위한 Import
+@Import({JpaRepositoryTest.TestJpaConfig.class, QueryCountConfig.class}) //Auditing, SQL 문장 수 측정을 위한 Import
 @DataJpaTest // slice Test
 class JpaRepositoryTest {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     @Autowired
     private UserAccountRepository userAccountRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private QueryCounter queryCounter;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
 
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
@@ -68,6 +104,28 @@ class JpaRepositoryTest {
         assertThat(articleRepository.count()).isEqualTo(previousCount + 1);
     }
 
+    @DisplayName("batch insert 테스트 - 게시글을 여러 개 저장하면 JDBC batch로 묶어서 전송한다.")
+    @Test
+    void givenManyArticles_whenSavingAll_thenInsertsInBatches() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("batchWriter", "pw", null, null, null));
+        List<Article> articles = IntStream.range(0, 100)
+                .mapToObj(i -> Article.of(userAccount, "title " + i, "content " + i, "#batch" + i))
+                .toList();
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        articleRepository.saveAll(articles);
+        entityManager.flush();
+
+        // Then
+        assertThat(articles).allMatch(article -> article.getId() > 123); // data.sql 로 넣은 게시글 ID 이후부터 할당한다.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(200L); // 게시글 100 + 해시태그 100
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20L); // batch 없이는 insert 마다 1개씩 (200개)
+    }
+
     @DisplayName("update 테스트")
     @Test
     void givenTestData_whenUpdating_thenWorksFine() {
@@ -107,6 +165,462 @@ class JpaRepositoryTest {
 
     }
 
+    @DisplayName("일괄 삭제 테스트 - 댓글 수와 상관없이 테이블 별 delete 문 하나로 삭제하고, 작성자가 아니면 삭제하지 않는다.")
+    @Test
+    void givenArticleWithManyComments_whenDeletingArticleCascade_thenDeletesWithFixedStatements() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        String ownerId = article.getUserAccount().getUserId();
+        for (int i = 0; i < 30; i++) {
+            articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long commentCount = articleCommentRepository.findByArticle_Id(1L).size();
+        long previousArticleCount = articleRepository.count();
+        long previousArticleCommentCount = articleCommentRepository.count();
+
+        // When
+        ArticleDeleteResultDto notOwner = articleRepository.deleteArticleCascade(1L, "not-" + ownerId);
+        queryCounter.start();
+        ArticleDeleteResultDto result = articleRepository.deleteArticleCascade(1L, ownerId);
+        long statementCount = queryCounter.stop();
+
+        // Then
+        assertThat(notOwner).isEqualTo(ArticleDeleteResultDto.none());
+        assertThat(result.articles()).isEqualTo(1L);
+        assertThat(result.articleComments()).isEqualTo(commentCount);
+        assertThat(statementCount).isEqualTo(6L); // 작성자 확인(잠금) + 댓글 ID 조회 + 댓글/해시태그/통계/게시글 delete
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount - 1);
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - commentCount);
+    }
+
+    @DisplayName("단일 update 테스트 - 작성자 조건이 붙은 update 문 하나로 수정하고, 버전과 수정자를 갱신한다.")
+    @Test
+    void givenOwnerAndOtherUser_whenUpdatingWithSingleStatement_thenUpdatesOnlyOwnedRows() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        ArticleComment articleComment = articleCommentRepository.findByArticle_Id(1L).get(0);
+        String ownerId = article.getUserAccount().getUserId();
+        String commenterId = articleComment.getUserAccount().getUserId();
+        Long previousVersion = article.getVersion();
+        entityManager.clear();
+
+        // When
+        queryCounter.start();
+        long updatedArticles = articleRepository.updateArticle(1L, ownerId, "new title", "new content #jpa", "#spring");
+        long updateStatements = queryCounter.stop();
+        long notOwned = articleRepository.updateArticle(1L, "not-" + ownerId, "hacked", "hacked", null);
+        long updatedComments = articleCommentRepository.updateArticleComment(articleComment.getId(), commenterId, "new comment");
+        articleRepository.replaceArticleHashtags(1L, Set.of("#spring", "#jpa"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(updateStatements).isEqualTo(1L);
+        assertThat(updatedArticles).isEqualTo(1L);
+        assertThat(notOwned).isZero();
+        assertThat(updatedComments).isEqualTo(1L);
+        Article updated = articleRepository.findById(1L).orElseThrow();
+        assertThat(updated)
+                .hasFieldOrPropertyWithValue("title", "new title")
+                .hasFieldOrPropertyWithValue("modifiedBy", ownerId)
+                .hasFieldOrPropertyWithValue("version", previousVersion + 1);
+        assertThat(updated.getHashtags()).containsExactlyInAnyOrder("#spring", "#jpa");
+        assertThat(articleCommentRepository.findById(articleComment.getId()).orElseThrow().getContent()).isEqualTo("new comment");
+    }
+
+    @DisplayName("count 없는 목록 조회 테스트")
+    @Test
+    void givenSearchCondition_whenSelectingArticlesAndCounting_thenWorksFine() {
+        // Given
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.HASHTAG, "#pink");
+        Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "userAccount.userId"));
+
+        // When
+        List<Article> articles = articleRepository.findArticles(condition, pageable);
+        long count = articleRepository.countArticles(condition);
+        long nicknameCount = articleRepository.countArticles(ArticleSearchCondition.of(SearchType.NICKNAME, "YooHyeok"));
+
+        // Then
+        assertThat(articles).hasSize(3).allMatch(article -> "#pink".equals(article.getHashtag()));
+        assertThat(count).isGreaterThanOrEqualTo(3);
+        assertThat(nicknameCount).isEqualTo(articleRepository.count());
+    }
+
+    @DisplayName("해시태그 색인 AND/OR 검색 테스트")
+    @Test
+    void givenArticlesWithHashtags_whenSearchingHashtags_thenFindsArticlesByIndexTable() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("yooHyeok");
+        Article both = articleRepository.save(Article.of(userAccount, "#JPA 정리", "스프링에서 #Java 로 쓰기", "#jpa"));
+        Article javaOnly = articleRepository.save(Article.of(userAccount, "자바 기초", "본문 #java", null));
+        entityManager.flush();
+        entityManager.clear();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        List<Article> and = articleRepository.findArticles(ArticleSearchCondition.of(SearchType.HASHTAG, "#java #jpa"), pageable);
+        List<Article> or = articleRepository.findArticles(ArticleSearchCondition.of(SearchType.HASHTAG, "jpa | #JAVA"), pageable);
+        long orCount = articleRepository.countArticles(ArticleSearchCondition.of(SearchType.HASHTAG, "jpa | #JAVA"));
+
+        // Then
+        assertThat(and).extracting(Article::getId).containsExactly(both.getId());
+        assertThat(or).extracting(Article::getId).containsExactlyInAnyOrder(both.getId(), javaOnly.getId());
+        assertThat(orCount).isEqualTo(2L);
+    }
+
+    @DisplayName("게시글 수정 시 해시태그 색인 갱신 테스트")
+    @Test
+    void givenArticle_whenUpdatingContent_thenReplacesHashtagRows() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("yooHyeok");
+        Long articleId = articleRepository.save(Article.of(userAccount, "제목", "#old #keep", null)).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Article article = articleRepository.getReferenceById(articleId);
+        article.setContent("#keep #new");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(articleRepository.getReferenceById(articleId).getHashtags()).containsExactlyInAnyOrder("#keep", "#new");
+        assertThat(articleRepository.countArticles(ArticleSearchCondition.of(SearchType.HASHTAG, "#old"))).isZero();
+    }
+
+    @DisplayName("해시태그 접두사 집계 조회 테스트")
+    @Test
+    void givenPrefix_whenSelectingHashtagCounts_thenReturnsHashtagsOrderedByArticleCount() {
+        // Given
+        String prefix = "#p";
+
+        // When
+        List<HashtagCountDto> hashtagCounts = articleRepository.findHashtagCounts(prefix, 2);
+
+        // Then
+        assertThat(hashtagCounts).hasSize(2)
+                .allMatch(hashtagCount -> hashtagCount.hashtag().startsWith(prefix))
+                .isSortedAccordingTo(Comparator.comparingLong(HashtagCountDto::count).reversed());
+        assertThat(hashtagCounts.get(0).count())
+                .isEqualTo(articleRepository.countArticles(ArticleSearchCondition.of(SearchType.HASHTAG, hashtagCounts.get(0).hashtag())));
+    }
+
+    @DisplayName("목록 projection 조회 테스트")
+    @Test
+    void givenNicknameCondition_whenSelectingArticleSummaries_thenReturnsListColumnsWithNickname() {
+        // Given
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.NICKNAME, "YooHyeok");
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "title"));
+
+        // When
+        List<ArticleSummaryDto> articles = articleRepository.findArticleSummaries(condition, pageable);
+
+        // Then
+        assertThat(articles).hasSize(5)
+                .isSortedAccordingTo(Comparator.comparing(ArticleSummaryDto::title))
+                .allSatisfy(article -> {
+                    assertThat(article.id()).isNotNull();
+                    assertThat(article.nickname()).startsWith("YooHyeok");
+                    assertThat(article.userId()).isNotBlank();
+                });
+    }
+
+    @DisplayName("Slice 조회 테스트")
+    @Test
+    void givenPageable_whenSelectingSlice_thenReturnsSliceWithNextFlag() {
+        // Given
+        Pageable firstPage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable lastPage = PageRequest.of(12, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        Slice<ArticleSummaryDto> first = articleRepository.findArticleSummarySlice(ArticleSearchCondition.none(), firstPage);
+        Slice<ArticleSummaryDto> last = articleRepository.findArticleSummarySlice(ArticleSearchCondition.none(), lastPage);
+        Slice<Article> derived = articleRepository.findSliceByHashtag("#pink", PageRequest.of(0, 1));
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(3); // 123개
+        assertThat(last.hasNext()).isFalse();
+        assertThat(derived.getContent()).hasSize(1);
+        assertThat(derived.hasNext()).isTrue();
+    }
+
+    @DisplayName("2차 캐시 테스트 - 다른 트랜잭션에서 한 번 조회한 게시글은 SQL 없이 조회한다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // READ_WRITE 캐시는 적재한 트랜잭션 안에서는 읽지 않으므로, 조회마다 별도 트랜잭션으로 실행한다.
+    @Test
+    void givenArticleLoadedInOtherTransaction_whenFinding_thenLoadsFromSecondLevelCache() {
+        // Given
+        Cache cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        articleRepository.findById(1L);
+
+        // When
+        queryCounter.start();
+        Article article = articleRepository.findById(1L).orElseThrow();
+        long statementCount = queryCounter.stop();
+
+        // Then
+        assertThat(article.getId()).isEqualTo(1L);
+        assertThat(statementCount).isZero();
+        assertThat(cache.contains(Article.class, 1L)).isTrue();
+    }
+
+    @DisplayName("2차 캐시 테스트 - 댓글 수를 갱신해도 게시글 캐시 영역은 비워지지 않는다. (article_stats 만 수정)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedArticle_whenIncreasingCommentCount_thenKeepsArticleCache() {
+        // Given
+        Cache cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        articleRepository.findById(1L);
+        articleRepository.findById(2L);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Article article = articleRepository.getReferenceById(1L);
+            ArticleComment comment = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "comment"));
+            articleRepository.increaseCommentCounts(List.of(comment));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(cache.contains(Article.class, 1L)).isTrue();
+        assertThat(cache.contains(Article.class, 2L)).isTrue();
+    }
+
+    @DisplayName("2차 캐시 테스트 - 게시글/댓글을 수정하거나 게시글을 삭제하면, 그 행의 캐시 항목만 지우고 다른 게시글/댓글의 항목은 남는다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenCachedArticlesAndComments_whenUpdatingAndDeletingOne_thenEvictsOnlyTouchedEntries() {
+        // Given
+        Cache cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Article article = articleRepository.findById(1L).orElseThrow();
+        articleRepository.findById(2L);
+        Long commentId = transactionTemplate.execute(status -> articleRepository.findById(1L).orElseThrow().getArticleComments().iterator().next().getId());
+        Long otherCommentId = transactionTemplate.execute(status -> articleRepository.findById(2L).orElseThrow().getArticleComments().iterator().next().getId());
+        String ownerId = article.getUserAccount().getUserId();
+        String commenterId = articleCommentRepository.findById(commentId).orElseThrow().getUserAccount().getUserId();
+
+        // When & Then
+        transactionTemplate.executeWithoutResult(status -> {
+            articleRepository.updateArticle(1L, ownerId, "new title", "new content", "#spring");
+            articleCommentRepository.updateArticleComment(commentId, commenterId, "new comment");
+            status.setRollbackOnly();
+        });
+        assertThat(cache.contains(Article.class, 1L)).isFalse();
+        assertThat(cache.contains(ArticleComment.class, commentId)).isFalse();
+        assertThat(cache.contains(Article.class, 2L)).isTrue();
+        assertThat(cache.contains(ArticleComment.class, otherCommentId)).isTrue();
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache().containsCollection(Article.class.getName() + ".articleComments", 2L)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            articleRepository.deleteArticleCascade(1L, ownerId);
+            status.setRollbackOnly();
+        });
+        assertThat(cache.contains(Article.class, 2L)).isTrue();
+        assertThat(cache.contains(ArticleComment.class, otherCommentId)).isTrue();
+    }
+
+    @DisplayName("상세 조회 테스트 - 댓글 수와 상관없이 SQL 문장 수가 일정하다.")
+    @Test
+    void givenArticlesWithManyOrNoComments_whenSelectingArticleWithCommentPage_thenExecutesFixedStatements() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        UserAccount commenter = userAccountRepository.save(UserAccount.of("commenter", "pw", null, "commenter", null));
+        for (int i = 0; i < 30; i++) {
+            articleCommentRepository.save(ArticleComment.of(article, i % 2 == 0 ? commenter : article.getUserAccount(), "comment " + i));
+        }
+        Article emptyArticle = articleRepository.save(Article.of(commenter, "no comments", "content", "#java"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        queryCounter.start();
+        ArticleWithCommentsDto withComments = selectArticleWithCommentPage(1L, 10);
+        long withCommentsCount = queryCounter.stop();
+        queryCounter.start();
+        ArticleWithCommentsDto withoutComments = selectArticleWithCommentPage(emptyArticle.getId(), 10);
+        long withoutCommentsCount = queryCounter.stop();
+
+        // Then
+        assertThat(withComments.articleCommentDtos()).hasSize(10);
+        assertThat(withComments.articleCommentDtos()).extracting(comment -> comment.userAccountDto().userId()).contains("commenter");
+        assertThat(withoutComments.articleCommentDtos()).isEmpty();
+        assertThat(withCommentsCount).isEqualTo(2L); // 게시글 + 댓글 한 페이지
+        assertThat(withoutCommentsCount).isEqualTo(2L);
+    }
+
+    @DisplayName("변경 여부 조회 테스트 - 게시글이 수정되거나 댓글이 달리면 버전 정보가 바뀐다.")
+    @Test
+    void givenArticleUpdatedAndCommented_whenSelectingArticleVersion_thenVersionChanges() {
+        // Given
+        ArticleVersionDto before = articleRepository.findArticleVersion(1L).orElseThrow();
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        // When
+        article.setTitle("updated title");
+        articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "new comment"));
+        entityManager.flush();
+        entityManager.clear();
+        ArticleVersionDto after = articleRepository.findArticleVersion(1L).orElseThrow();
+
+        // Then
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.commentCount()).isEqualTo(before.commentCount() + 1);
+        assertThat(after.modifiedAt()).isAfterOrEqualTo(before.modifiedAt());
+        assertThat(articleRepository.findArticleVersion(0L)).isEmpty();
+    }
+
+    @DisplayName("댓글 수 테스트 - 댓글 저장/삭제 시 update 문으로 article_stats 의 댓글 수와 마지막 댓글 일시를 갱신하고, 어긋난 값은 보정한다.")
+    @Test
+    void givenArticleComments_whenIncreasingAndDecreasingCommentCount_thenArticleStatsFollowComments() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        long seeded = entityManager.find(ArticleStats.class, 1L).getCommentCount();
+        entityManager.clear();
+        ArticleComment first = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "first"));
+        ArticleComment second = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "second"));
+
+        // When
+        articleRepository.increaseCommentCounts(List.of(first, second));
+        entityManager.flush();
+        entityManager.clear();
+        ArticleStats increased = entityManager.find(ArticleStats.class, 1L);
+
+        articleCommentRepository.deleteByIdAndUserAccount_UserId(second.getId(), article.getUserAccount().getUserId());
+        articleRepository.decreaseCommentCount(1L);
+        entityManager.flush();
+        entityManager.clear();
+        ArticleStats decreased = entityManager.find(ArticleStats.class, 1L);
+
+        long reconciledWhenConsistent = articleRepository.reconcileCommentCounts();
+        entityManager.getEntityManager().createQuery("update ArticleStats s set s.commentCount = 100, s.lastCommentedAt = null where s.articleId = 2").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from ArticleStats s where s.articleId = 3").executeUpdate();
+        long reconciled = articleRepository.reconcileCommentCounts();
+        entityManager.clear();
+
+        // Then
+        List<ArticleComment> remaining = articleCommentRepository.findByArticle_Id(1L);
+        LocalDateTime latest = remaining.stream().map(ArticleComment::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
+        assertThat(seeded).isEqualTo(remaining.size() - 1); // data.sql 로 넣은 댓글 수
+        assertThat(increased.getCommentCount()).isEqualTo(seeded + 2);
+        assertThat(increased.getLastCommentedAt()).isCloseTo(second.getCreatedAt().isAfter(first.getCreatedAt()) ? second.getCreatedAt() : first.getCreatedAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(decreased.getCommentCount()).isEqualTo(seeded + 1);
+        assertThat(decreased.getLastCommentedAt()).isCloseTo(latest, within(1, ChronoUnit.MILLIS));
+        assertThat(reconciledWhenConsistent).isZero();
+        assertThat(reconciled).isEqualTo(2L); // 어긋난 행 고침 + 없는 행 만듦
+        assertThat(entityManager.find(ArticleStats.class, 2L).getCommentCount()).isEqualTo(articleCommentRepository.findByArticle_Id(2L).size());
+        assertThat(entityManager.find(ArticleStats.class, 3L).getCommentCount()).isEqualTo(articleCommentRepository.findByArticle_Id(3L).size());
+    }
+
+    @DisplayName("댓글 수 테스트 - 통계 행이 없는 게시글에 첫 댓글이 달리면, 댓글로 계산해서 통계 행을 만든다.")
+    @Test
+    void givenArticleWithoutStats_whenIncreasingCommentCount_thenCreatesArticleStats() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        entityManager.getEntityManager().createQuery("delete from ArticleStats s where s.articleId = 1").executeUpdate();
+        ArticleComment comment = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "first"));
+
+        // When
+        long updated = articleRepository.increaseCommentCounts(List.of(comment));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(1L);
+        assertThat(entityManager.find(ArticleStats.class, 1L).getCommentCount()).isEqualTo(articleCommentRepository.findByArticle_Id(1L).size());
+    }
+
+    @DisplayName("댓글 수 테스트 - 먼저 만든 댓글 묶음이 늦게 반영돼도, 댓글 수는 더하고 마지막 댓글 일시는 뒤로 돌아가지 않는다.")
+    @Test
+    void givenOlderBatchAppliedLater_whenIncreasingCommentCount_thenKeepsLatestLastCommentedAt() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        long seeded = entityManager.find(ArticleStats.class, 1L).getCommentCount();
+        entityManager.clear();
+        ArticleComment newer = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "newer"));
+        ArticleComment older = articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "older"));
+        ReflectionTestUtils.setField(older, "createdAt", newer.getCreatedAt().minusMinutes(1)); // 먼저 만들어졌지만 늦게 커밋된 묶음
+
+        // When
+        articleRepository.increaseCommentCounts(List.of(newer));
+        articleRepository.increaseCommentCounts(List.of(older));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        ArticleStats stats = entityManager.find(ArticleStats.class, 1L);
+        assertThat(stats.getCommentCount()).isEqualTo(seeded + 2);
+        assertThat(stats.getLastCommentedAt()).isCloseTo(newer.getCreatedAt(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @DisplayName("목록 조회 테스트 - 댓글 수로 정렬하면, article_stats 의 댓글 수 순서로 조회한다.")
+    @Test
+    void givenCommentCountSort_whenSelectingArticleSummaries_thenSortsByArticleStats() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("commentCount"), Sort.Order.asc("id")));
+
+        // When
+        List<ArticleSummaryDto> articles = articleRepository.findArticleSummaries(ArticleSearchCondition.none(), pageable);
+
+        // Then
+        assertThat(articles).hasSize(5)
+                .extracting(ArticleSummaryDto::commentCount)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @DisplayName("댓글 keyset 페이지네이션 테스트")
+    @Test
+    void givenCommentCursor_whenSelectingArticleComments_thenReturnsOlderCommentsInOrder() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        for (int i = 0; i < 15; i++) {
+            articleCommentRepository.save(ArticleComment.of(article, article.getUserAccount(), "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear(); // 커서 값은 DB에 저장된 값(정밀도)을 사용해야 한다.
+        List<ArticleComment> firstPage = articleCommentRepository.findArticleCommentsAfter(1L, null, 10);
+        ArticleComment last = firstPage.get(firstPage.size() - 1);
+
+        // When
+        List<ArticleComment> secondPage = articleCommentRepository.findArticleCommentsAfter(1L, ArticleCursor.of(last.getCreatedAt(), last.getId()), 10);
+
+        // Then
+        assertThat(firstPage).hasSize(10).isSortedAccordingTo(Comparator.comparing(ArticleComment::getCreatedAt).reversed());
+        assertThat(secondPage).isNotEmpty()
+                .doesNotContainAnyElementsOf(firstPage)
+                .allMatch(comment -> comment.getArticle().getId().equals(1L));
+    }
+
+    private ArticleWithCommentsDto selectArticleWithCommentPage(Long articleId, int size) {
+        Article article = articleRepository.findArticleWithUserAccount(articleId).orElseThrow();
+        return ArticleWithCommentsDto.from(article, articleCommentRepository.findArticleCommentsAfter(articleId, null, size), null);
+    }
+
+    @DisplayName("keyset 페이지네이션 테스트")
+    @Test
+    void givenCursor_whenSelectingArticlesAfter_thenReturnsOlderArticlesInOrder() {
+        // Given
+        List<ArticleSummaryDto> firstPage = articleRepository.findArticleSummariesAfter(ArticleSearchCondition.none(), null, 10);
+        ArticleSummaryDto last = firstPage.get(firstPage.size() - 1);
+        ArticleCursor cursor = ArticleCursor.from(last);
+
+        // When
+        List<ArticleSummaryDto> secondPage = articleRepository.findArticleSummariesAfter(ArticleSearchCondition.none(), cursor, 10);
+        List<ArticleSummaryDto> previousPage = articleRepository.findArticleSummariesBefore(ArticleSearchCondition.none(), ArticleCursor.from(secondPage.get(0)), 10);
+
+        // Then
+        assertThat(firstPage).hasSize(10).isSortedAccordingTo(Comparator.comparing(ArticleSummaryDto::createdAt).reversed());
+        assertThat(secondPage).hasSize(10).allMatch(article -> !article.createdAt().isAfter(last.createdAt()));
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+        assertThat(previousPage).hasSize(10).containsExactlyInAnyOrderElementsOf(firstPage);
+    }
+
     /**
      * JPA Test에서 createBy에 들어갈 정보를 지정했다.
      * JpaConfig.class에서 등록한 auditorAware을 테스트용도로 치환
@@ -3,6 +3,7 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -33,6 +36,7 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -52,7 +56,7 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
-    @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
+    @DisplayName("댓글 정보를 입력하면, 댓글을 저장하고 게시글의 댓글 수를 늘린다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
         // Given
@@ -68,6 +72,8 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(articleRepository).should().increaseCommentCounts(argThat(comments -> comments.size() == 1));
+        then(eventPublisher).should().publishEvent(any(ArticleCommentEvent.class));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -84,56 +90,58 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(articleCommentRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
-    @DisplayName("댓글 정보를 입력하면, 댓글을 수정한다.")
+    @DisplayName("댓글 정보를 입력하면, 댓글을 읽지 않고 작성자 조건이 붙은 update 문으로 수정한다.")
     @Test
     void givenArticleCommentInfo_whenUpdatingArticleComment_thenUpdatesArticleComment() {
         // Given
-        String oldContent = "content";
-        String updatedContent = "댓글";
-        ArticleComment articleComment = createArticleComment(oldContent);
-        ArticleCommentDto dto = createArticleCommentDto(updatedContent);
-        given(articleCommentRepository.getReferenceById(dto.id())).willReturn(articleComment);
+        ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(articleCommentRepository.updateArticleComment(dto.id(), dto.userAccountDto().userId(), dto.content())).willReturn(1L);
 
         // When
         sut.updateArticleComment(dto);
 
         // Then
-        assertThat(articleComment.getContent())
-                .isNotEqualTo(oldContent)
-                .isEqualTo(updatedContent);
-        then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(articleCommentRepository).should().updateArticleComment(dto.id(), dto.userAccountDto().userId(), dto.content());
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.updated(dto.id(), dto.content()));
     }
 
-    @DisplayName("없는 댓글 정보를 수정하려고 하면, 경고 로그를 찍고 아무 것도 안 한다.")
+    @DisplayName("없는 댓글이거나 작성자가 아니면, 경고 로그를 찍고 아무 것도 안 한다.")
     @Test
     void givenNonexistentArticleComment_whenUpdatingArticleComment_thenLogsWarningAndDoesNothing() {
         // Given
         ArticleCommentDto dto = createArticleCommentDto("댓글");
-        given(articleCommentRepository.getReferenceById(dto.id())).willThrow(EntityNotFoundException.class);
+        given(articleCommentRepository.updateArticleComment(dto.id(), dto.userAccountDto().userId(), dto.content())).willReturn(0L);
 
         // When
         sut.updateArticleComment(dto);
 
         // Then
-        then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(articleCommentRepository).should().updateArticleComment(dto.id(), dto.userAccountDto().userId(), dto.content());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
-    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
+    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제하고 게시글의 댓글 수를 줄인다.")
     @Test
     void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleComment() {
         // Given
         Long articleCommentId = 1L;
         String userId = "YooHyeok";
 
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        ArticleComment articleComment = createArticleComment("댓글");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 1L);
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(List.of(articleComment));
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(articleRepository).should().decreaseCommentCount(1L);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.deleted(articleCommentId, 1L));
     }
 
 
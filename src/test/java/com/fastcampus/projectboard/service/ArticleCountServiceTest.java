@@ -0,0 +1,184 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.ArticleTableStatistics;
+import com.fastcampus.projectboard.repository.querydsl.ArticleSearchCondition;
+import com.fastcampus.projectboard.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+
+    @InjectMocks private ArticleCountService sut;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleTableStatistics articleTableStatistics;
+    @Mock private OutboxRelay outboxRelay;
+
+    @DisplayName("같은 검색 조건의 게시글 수를 두 번 조회하면, count 쿼리는 한 번만 실행한다.")
+    @Test
+    void givenSameCondition_whenCountingTwice_thenQueriesOnce() {
+        // Given
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.NICKNAME, "uno");
+        given(articleRepository.countArticles(condition)).willReturn(3L);
+
+        // When
+        long first = sut.count(condition);
+        long second = sut.count(condition);
+
+        // Then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        then(articleRepository).should(times(1)).countArticles(condition);
+        then(articleTableStatistics).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글이 바뀌면, 캐시된 게시글 수를 비운다.")
+    @Test
+    void givenArticleEvent_whenCountingAgain_thenQueriesAgain() {
+        // Given
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.HASHTAG, "#java");
+        given(articleRepository.countArticles(condition)).willReturn(3L, 4L);
+        sut.count(condition);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+        long actual = sut.count(condition);
+
+        // Then
+        assertThat(actual).isEqualTo(4L);
+        then(articleRepository).should(times(2)).countArticles(condition);
+    }
+
+    @DisplayName("검색어 없이 조회할 때 테이블이 충분히 크면, 테이블 통계의 추정치를 반환한다.")
+    @Test
+    void givenLargeTable_whenCountingWithoutKeyword_thenReturnsEstimate() {
+        // Given
+        long estimated = ArticleCountService.APPROXIMATE_THRESHOLD * 2;
+        given(articleTableStatistics.estimatedRowCount()).willReturn(OptionalLong.of(estimated));
+
+        // When
+        long actual = sut.count(ArticleSearchCondition.none());
+
+        // Then
+        assertThat(actual).isEqualTo(estimated);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색어 없이 조회할 때 테이블 통계가 없으면, 정확한 게시글 수를 반환한다.")
+    @Test
+    void givenNoStatistics_whenCountingWithoutKeyword_thenReturnsExactCount() {
+        // Given
+        given(articleTableStatistics.estimatedRowCount()).willReturn(OptionalLong.empty());
+        given(articleRepository.countArticles(ArticleSearchCondition.none())).willReturn(123L);
+
+        // When
+        long actual = sut.count(ArticleSearchCondition.none());
+
+        // Then
+        assertThat(actual).isEqualTo(123L);
+        then(articleRepository).should().countArticles(ArticleSearchCondition.none());
+    }
+
+    @DisplayName("게시글이 생성/삭제되면, count 쿼리 없이 전체 게시글 수 카운터를 증감한다.")
+    @Test
+    void givenArticleEvents_whenCountingTotal_thenReturnsMaintainedCounter() {
+        // Given
+        given(articleRepository.countArticles(ArticleSearchCondition.none())).willReturn(10L);
+        givenRelayCaughtUp();
+        sut.initialize(); // 기동 시 1회 DB 조회
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 11L, "title", "content", null));
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 12L, "title", "content", null));
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+        sut.onArticleEvent(ArticleEvent.of(EventType.UPDATED, 2L, "title", "content", null));
+        long actual = sut.totalCount();
+
+        // Then
+        assertThat(actual).isEqualTo(11L);
+        then(articleRepository).should(times(1)).countArticles(ArticleSearchCondition.none());
+    }
+
+    @DisplayName("카운터를 보정하면, DB 게시글 수로 맞추고 차이를 metric 으로 노출한다.")
+    @Test
+    void givenDriftedCounter_whenReconciling_thenResetsCounterAndRecordsDrift() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        given(articleRepository.countArticles(ArticleSearchCondition.none())).willReturn(10L, 13L);
+        givenRelayCaughtUp();
+        sut.initialize();
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 11L, "title", "content", null)); // 11
+
+        // When
+        sut.reconcile(); // 실제로는 13
+
+        // Then
+        assertThat(sut.totalCount()).isEqualTo(13L);
+        assertThat(registry.get("board.articles.count").gauge().value()).isEqualTo(13.0);
+        assertThat(registry.get("board.articles.count.drift").gauge().value()).isEqualTo(2.0);
+    }
+
+    @DisplayName("카운터가 초기화되지 않았으면, 릴레이를 기다리지 않고 캐시된 DB 게시글 수를 반환한다.")
+    @Test
+    void givenUninitializedCounter_whenCountingTotal_thenReturnsCachedDbCountWithoutWaitingForRelay() {
+        // Given
+        given(articleRepository.countArticles(ArticleSearchCondition.none())).willReturn(10L);
+
+        // When
+        long first = sut.totalCount();
+        long second = sut.totalCount();
+
+        // Then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        then(articleRepository).should(times(1)).countArticles(ArticleSearchCondition.none());
+        then(outboxRelay).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("기동 시 outbox 릴레이가 따라잡지 못했으면, 카운터를 초기화하지 않고 DB 게시글 수를 반환한다.")
+    @Test
+    void givenRelayNotCaughtUp_whenInitializing_thenReturnsDbCountWithoutInitializingCounter() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        given(outboxRelay.readCaughtUp(any(), any())).willReturn(false); // 발행 중인 생성 이벤트가 있다.
+        given(articleRepository.countArticles(ArticleSearchCondition.none())).willReturn(10L);
+
+        // When
+        sut.initialize();
+        long actual = sut.totalCount();
+
+        // Then
+        assertThat(actual).isEqualTo(10L);
+        assertThat(registry.get("board.articles.count").gauge().value()).isEqualTo(-1.0);
+        then(outboxRelay).should(times(1)).readCaughtUp(any(), any());
+    }
+
+    private void givenRelayCaughtUp() {
+        given(outboxRelay.readCaughtUp(any(), any())).willAnswer(invocation -> {
+            Supplier<Object> reader = invocation.getArgument(0);
+            Consumer<Object> apply = invocation.getArgument(1);
+            apply.accept(reader.get());
+            return true;
+        });
+    }
+}
@@ -1,31 +1,52 @@
 package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDeleteResultDto;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.CursorPage;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.repository.querydsl.ArticleSearchCondition;
+import com.fastcampus.projectboard.service.hashtag.HashtagDictionary;
+import com.fastcampus.projectboard.service.hashtag.TrendingHashtags;
+import com.fastcampus.projectboard.service.search.ArticleSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 /**
@@ -44,7 +65,13 @@ class ArticleServiceTest {
      */
     @InjectMocks private ArticleService sut; //system under test 테스트 대상이라는 뜻의 네이밍
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private HashtagDictionary hashtagDictionary;
+    @Mock private TrendingHashtags trendingHashtags;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     /**
      * 검색 파라미터가 주어지면 게시글들을 검색하고, 게시글들을 리턴한다.
@@ -56,14 +83,33 @@ class ArticleServiceTest {
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.none(), pageable)).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findArticleSummaries(ArticleSearchCondition.none(), pageable);
+        then(articleCountService).shouldHaveNoInteractions(); // 첫 페이지가 다 차지 않았다면 개수를 셀 필요가 없다.
+    }
+
+    @DisplayName("게시글 페이지가 가득 차면, 전체 개수는 게시글 수 캐시에서 얻는다.")
+    @Test
+    void givenFullPage_whenSearchingArticles_thenReturnsTotalFromCountService() {
+        // Given
+        Pageable pageable = Pageable.ofSize(2);
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.none(), pageable)).willReturn(List.of(createArticleSummaryDto(1L, LocalDateTime.now()), createArticleSummaryDto(2L, LocalDateTime.now())));
+        given(articleCountService.count(ArticleSearchCondition.none())).willReturn(10L);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(10L);
+        assertThat(articles.getTotalPages()).isEqualTo(5);
+        then(articleCountService).should().count(ArticleSearchCondition.none());
+        then(articleRepository).should(never()).count();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -87,7 +133,7 @@ class ArticleServiceTest {
         // Given
         String hashtag = "#java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag, pageable)).willReturn(Page.empty(pageable));
+        given(articleRepository.findArticles(ArticleSearchCondition.of(SearchType.HASHTAG, hashtag), pageable)).willReturn(List.of());
 
         // When
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
@@ -95,7 +141,7 @@ class ArticleServiceTest {
         // Then
 //        assertThat(articles).isEmpty();
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtag(hashtag, pageable);
+        then(articleRepository).should().findArticles(ArticleSearchCondition.of(SearchType.HASHTAG, hashtag), pageable);
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -105,14 +151,124 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleSearchIndex.searchTitle(searchKeyword)).willReturn(Optional.empty());
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.of(searchType, searchKeyword), pageable)).willReturn(List.of());
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticleSummaries(ArticleSearchCondition.of(searchType, searchKeyword), pageable);
+    }
+
+    @DisplayName("본문 검색어로 게시글을 검색하면, 검색 색인이 찾은 게시글 ID로 조회한다.")
+    @Test
+    void givenContentSearchKeyword_whenSearchingArticles_thenSearchesViaIndex() {
+        // Given
+        String searchKeyword = "spring";
+        Pageable pageable = Pageable.ofSize(20);
+        List<Long> articleIds = List.of(1L, 3L);
+        given(articleSearchIndex.searchContent(searchKeyword)).willReturn(Optional.of(articleIds));
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.of(SearchType.CONTENT, searchKeyword, articleIds), pageable)).willReturn(List.of());
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticleSummaries(ArticleSearchCondition.of(SearchType.CONTENT, searchKeyword, articleIds), pageable);
+    }
+
+    @DisplayName("제목 검색어로 게시글을 검색하면, 색인이 찾은 후보 안에서만 제목을 확인한다.")
+    @Test
+    void givenTitleSearchKeyword_whenSearchingArticles_thenSearchesViaIndex() {
+        // Given
+        String searchKeyword = "게시판";
+        Pageable pageable = Pageable.ofSize(20);
+        List<Long> articleIds = List.of(2L);
+        given(articleSearchIndex.searchTitle(searchKeyword)).willReturn(Optional.of(articleIds));
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.of(SearchType.TITLE, searchKeyword, articleIds), pageable)).willReturn(List.of());
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.TITLE, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticleSummaries(ArticleSearchCondition.of(SearchType.TITLE, searchKeyword, articleIds), pageable);
+    }
+
+    @DisplayName("검색 색인이 준비되지 않았다면, 본문 검색은 DB 검색으로 대체한다.")
+    @Test
+    void givenIndexNotReady_whenSearchingArticlesViaContent_thenFallsBackToDatabase() {
+        // Given
+        String searchKeyword = "spring";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.searchContent(searchKeyword)).willReturn(Optional.empty());
+        given(articleRepository.findArticleSummaries(ArticleSearchCondition.of(SearchType.CONTENT, searchKeyword), pageable)).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findArticleSummaries(ArticleSearchCondition.of(SearchType.CONTENT, searchKeyword), pageable);
+    }
+
+    @DisplayName("게시글을 Slice로 검색하면, 게시글 수를 세지 않고 Slice를 반환한다.")
+    @Test
+    void givenSearchParameters_whenSearchingArticleSlice_thenReturnsSliceWithoutCounting() {
+        // Given
+        Pageable pageable = Pageable.ofSize(1);
+        ArticleSearchCondition condition = ArticleSearchCondition.of(SearchType.NICKNAME, "uno");
+        given(articleRepository.findArticleSummarySlice(condition, pageable)).willReturn(new SliceImpl<>(List.of(createArticleSummaryDto(1L, LocalDateTime.now())), pageable, true));
+
+        // When
+        Slice<ArticleSummaryDto> articles = sut.searchArticleSlice(SearchType.NICKNAME, "uno", pageable);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findArticleSummarySlice(condition, pageable);
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서로 게시글을 검색하면, 한 개를 더 조회해서 다음 페이지 커서를 만든다.")
+    @Test
+    void givenCursor_whenSearchingArticlesByCursor_thenReturnsCursorPage() {
+        // Given
+        ArticleCursor after = ArticleCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 10L);
+        ArticleSummaryDto first = createArticleSummaryDto(3L, LocalDateTime.of(2021, 12, 31, 0, 0));
+        ArticleSummaryDto second = createArticleSummaryDto(2L, LocalDateTime.of(2021, 12, 30, 0, 0));
+        ArticleSummaryDto extra = createArticleSummaryDto(1L, LocalDateTime.of(2021, 12, 29, 0, 0));
+        given(articleRepository.findArticleSummariesAfter(any(ArticleSearchCondition.class), eq(after), eq(3))).willReturn(List.of(first, second, extra));
+
+        // When
+        CursorPage<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, null, after, null, 2);
+
+        // Then
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(articles.previousCursor()).isEqualTo(ArticleCursor.of(first.createdAt(), 3L));
+        assertThat(articles.nextCursor()).isEqualTo(ArticleCursor.of(second.createdAt(), 2L));
+        then(articleRepository).should().findArticleSummariesAfter(any(ArticleSearchCondition.class), eq(after), eq(3));
+    }
+
+    @DisplayName("이전 페이지 커서로 검색하면, 최신순으로 뒤집어서 반환한다.")
+    @Test
+    void givenBeforeCursor_whenSearchingArticlesByCursor_thenReturnsReversedPage() {
+        // Given
+        ArticleCursor before = ArticleCursor.of(LocalDateTime.of(2021, 12, 29, 0, 0), 1L);
+        ArticleSummaryDto older = createArticleSummaryDto(2L, LocalDateTime.of(2021, 12, 30, 0, 0));
+        ArticleSummaryDto newer = createArticleSummaryDto(3L, LocalDateTime.of(2021, 12, 31, 0, 0));
+        given(articleRepository.findArticleSummariesBefore(any(ArticleSearchCondition.class), eq(before), eq(3))).willReturn(List.of(older, newer));
+
+        // When
+        CursorPage<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, null, null, before, 2);
+
+        // Then
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(articles.hasPrevious()).isFalse();
+        assertThat(articles.nextCursor()).isEqualTo(ArticleCursor.of(older.createdAt(), 2L));
     }
 
     @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
@@ -121,7 +277,8 @@ class ArticleServiceTest {
         // Given
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findArticleWithUserAccount(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findArticleCommentsAfter(articleId, null, ArticleService.COMMENT_PAGE_SIZE + 1)).willReturn(List.of());
 
         // When
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
@@ -130,8 +287,36 @@ class ArticleServiceTest {
         assertThat(dto)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
                 .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
-        then(articleRepository).should().findById(articleId);
+                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag())
+                .hasFieldOrPropertyWithValue("nextCommentCursor", null);
+        then(articleRepository).should().findArticleWithUserAccount(articleId);
+        then(articleCommentRepository).should().findArticleCommentsAfter(articleId, null, ArticleService.COMMENT_PAGE_SIZE + 1);
+    }
+
+    @DisplayName("댓글이 한 페이지보다 많으면, 한 페이지만 담고 다음 댓글 커서를 반환한다.")
+    @Test
+    void givenManyComments_whenSearchingArticleWithComments_thenReturnsFirstCommentPageWithCursor() {
+        // Given
+        Long articleId = 1L;
+        Article article = createArticle();
+        ArticleCursor commentCursor = ArticleCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 100L);
+        List<ArticleComment> articleComments = new ArrayList<>();
+        for (long i = ArticleService.COMMENT_PAGE_SIZE + 1; i > 0; i--) {
+            ArticleComment articleComment = ArticleComment.of(article, article.getUserAccount(), "comment" + i);
+            ReflectionTestUtils.setField(articleComment, "id", i);
+            ReflectionTestUtils.setField(articleComment, "createdAt", LocalDateTime.of(2021, 1, 1, 0, 0).plusMinutes(i));
+            articleComments.add(articleComment);
+        }
+        given(articleRepository.findArticleWithUserAccount(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findArticleCommentsAfter(articleId, commentCursor, ArticleService.COMMENT_PAGE_SIZE + 1)).willReturn(articleComments);
+
+        // When
+        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId, commentCursor);
+
+        // Then
+        ArticleComment last = articleComments.get(ArticleService.COMMENT_PAGE_SIZE - 1);
+        assertThat(dto.articleCommentDtos()).hasSize(ArticleService.COMMENT_PAGE_SIZE);
+        assertThat(dto.nextCommentCursor()).isEqualTo(ArticleCursor.of(last.getCreatedAt(), last.getId()));
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
@@ -139,7 +324,7 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         // Given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findArticleWithUserAccount(articleId)).willReturn(Optional.empty());
 
         // When
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -148,7 +333,7 @@ class ArticleServiceTest {
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findArticleWithUserAccount(articleId);
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -175,7 +360,7 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticle_thenThrowsException() {
         // Given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findArticleWithUserAccount(articleId)).willReturn(Optional.empty());
 
         // When
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -184,7 +369,40 @@ class ArticleServiceTest {
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findArticleWithUserAccount(articleId);
+    }
+
+    @DisplayName("게시글 변경 여부를 조회하면, 게시글 버전과 댓글 집계를 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingArticleVersion_thenReturnsArticleVersion() {
+        // Given
+        Long articleId = 1L;
+        ArticleVersionDto expected = ArticleVersionDto.of(articleId, 3L, LocalDateTime.now(), 2L, LocalDateTime.now());
+        given(articleRepository.findArticleVersion(articleId)).willReturn(Optional.of(expected));
+
+        // When
+        ArticleVersionDto actual = sut.getArticleVersion(articleId);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(articleRepository).should().findArticleVersion(articleId);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("변경 여부를 조회할 게시글이 없으면, 예외를 던진다.")
+    @Test
+    void givenNonexistentArticleId_whenSearchingArticleVersion_thenThrowsException() {
+        // Given
+        Long articleId = 0L;
+        given(articleRepository.findArticleVersion(articleId)).willReturn(Optional.empty());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticleVersion(articleId));
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
     }
 
     @DisplayName("게시글 정보를 입력하면, 게시글을 생성한다.")
@@ -201,42 +419,42 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
-    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
+    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 읽지 않고 update 문으로 수정하고 해시태그 색인을 교체한다.")
     @Test
     void givenModifiedArticleInfo_whenUpdatingArticle_thenUpdatesArticle() {
         // Given
-        Article article = createArticle();
-        ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
-        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
-        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #jpa", "#springboot");
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.updateArticle(dto.id(), userId, dto.title(), dto.content(), dto.hashtag())).willReturn(1L);
 
         // When
         sut.updateArticle(dto.id(), dto);
 
         // Then
-        assertThat(article)
-                .hasFieldOrPropertyWithValue("title", dto.title())
-                .hasFieldOrPropertyWithValue("content", dto.content())
-                .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
-        then(articleRepository).should().getReferenceById(dto.id());
-        then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(articleRepository).should().updateArticle(dto.id(), userId, dto.title(), dto.content(), dto.hashtag());
+        then(articleRepository).should().replaceArticleHashtags(dto.id(), Set.of("#springboot", "#jpa"));
+        then(articleRepository).should(never()).getReferenceById(any());
+        then(eventPublisher).should().publishEvent(ArticleEvent.of(EventType.UPDATED, dto.id(), dto.title(), dto.content(), dto.hashtag()));
     }
 
-
-    @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
+    @DisplayName("없는 게시글이거나 작성자가 아니면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
         // Given
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
-        given(articleRepository.getReferenceById(dto.id())).willThrow(EntityNotFoundException.class);
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.updateArticle(dto.id(), userId, dto.title(), dto.content(), dto.hashtag())).willReturn(0L);
 
         // When
         sut.updateArticle(dto.id(), dto);
 
         // Then
-        then(articleRepository).should().getReferenceById(dto.id());
+        then(articleRepository).should().updateArticle(dto.id(), userId, dto.title(), dto.content(), dto.hashtag());
+        then(articleRepository).should(never()).replaceArticleHashtags(any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
@@ -245,13 +463,30 @@ class ArticleServiceTest {
         // Given
         Long articleId = 1L;
         String userId = "YooHyeokTest";
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
+        given(articleRepository.deleteArticleCascade(articleId, userId)).willReturn(ArticleDeleteResultDto.of(1L, 3L, 2L));
 
         // When
         sut.deleteArticle(1L, userId);
 
         // Then
-        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
+        then(articleRepository).should().deleteArticleCascade(articleId, userId);
+        then(eventPublisher).should().publishEvent(ArticleEvent.deleted(articleId));
+    }
+
+    @DisplayName("작성자가 아닌 회원이 게시글을 삭제하면, 아무것도 삭제되지 않고 이벤트도 발행하지 않는다")
+    @Test
+    void givenOtherUser_whenDeletingArticle_thenPublishesNothing() {
+        // Given
+        Long articleId = 1L;
+        String userId = "otherUser";
+        given(articleRepository.deleteArticleCascade(articleId, userId)).willReturn(ArticleDeleteResultDto.none());
+
+        // When
+        sut.deleteArticle(articleId, userId);
+
+        // Then
+        then(articleRepository).should().deleteArticleCascade(articleId, userId);
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
@@ -259,14 +494,14 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         //Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCountService.totalCount()).willReturn(expected);
 
         //When
         long actual = sut.getArticleCount();
 
         //Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCountService).should().totalCount();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
@@ -274,6 +509,7 @@ class ArticleServiceTest {
     void givenNothing_whenCalling_thenReturnsHashtags() {
         //Given
         List<String> expectedHashtags = List.of("#java", "#spring", "#boot");
+        given(hashtagDictionary.hashtags(HashtagSort.NAME)).willReturn(Optional.empty()); // 사전 준비 전
         given(articleRepository.findByDistinctHashtags()).willReturn(expectedHashtags);
 
         //When
@@ -283,6 +519,51 @@ class ArticleServiceTest {
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
         then(articleRepository).should().findByDistinctHashtags();
     }
+
+    @DisplayName("해시태그 사전이 준비되었다면, DB 조회 없이 사전의 해시태그 리스트를 반환한다.")
+    @Test
+    void givenReadyDictionary_whenSearchingHashtags_thenReturnsHashtagsFromDictionary() {
+        //Given
+        List<String> expectedHashtags = List.of("#spring", "#java");
+        given(hashtagDictionary.hashtags(HashtagSort.POPULAR)).willReturn(Optional.of(expectedHashtags));
+
+        //When
+        List<String> actualHashtags = sut.getHashtags(HashtagSort.POPULAR);
+
+        //Then
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 접두사를 입력하면, 정규화한 접두사로 해시태그 사전에서 자동완성 목록을 찾는다.")
+    @Test
+    void givenPrefix_whenSuggestingHashtags_thenReturnsSuggestionsFromDictionary() {
+        //Given
+        List<HashtagCountDto> expected = List.of(HashtagCountDto.of("#java", 3L));
+        given(hashtagDictionary.suggest("#ja", ArticleService.HASHTAG_SUGGESTION_MAX_SIZE)).willReturn(Optional.of(expected));
+
+        //When
+        List<HashtagCountDto> actual = sut.suggestHashtags("JA", 1000);
+
+        //Then
+        assertThat(actual).isEqualTo(expected);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 사전이 준비되기 전이라면, 해시태그 자동완성은 DB를 조회한다.")
+    @Test
+    void givenNotReadyDictionary_whenSuggestingHashtags_thenQueriesDatabase() {
+        //Given
+        List<HashtagCountDto> expected = List.of(HashtagCountDto.of("#java", 3L));
+        given(hashtagDictionary.suggest("#ja", 10)).willReturn(Optional.empty());
+        given(articleRepository.findHashtagCounts("#ja", 10)).willReturn(expected);
+
+        //When
+        List<HashtagCountDto> actual = sut.suggestHashtags("#ja", 10);
+
+        //Then
+        assertThat(actual).isEqualTo(expected);
+    }
     
     private UserAccount createUserAccount() {
         return UserAccount.of(
@@ -306,6 +587,10 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummaryDto(Long id, LocalDateTime createdAt) {
+        return ArticleSummaryDto.of(id, "title", "#java", createdAt, "uno", "Uno", 0L, null);
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
@@ -0,0 +1,91 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CacheConfig;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 회원 (캐시)")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 테스트마다 빈 캐시로 시작한다.
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@SpringBootTest(
+        classes = {CacheConfig.class, UserAccountService.class},
+        properties = {
+                "spring.cache.type=caffeine",
+                "spring.cache.cache-names=" + CacheConfig.USER_ACCOUNTS,
+                "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats"
+        }
+)
+class UserAccountServiceTest {
+
+    @Autowired private UserAccountService sut;
+    @Autowired private CacheManager cacheManager;
+    @MockBean private UserAccountRepository userAccountRepository;
+
+    @DisplayName("같은 회원을 두 번 조회하면, DB는 한 번만 조회한다.")
+    @Test
+    void givenUserId_whenSearchingTwice_thenQueriesDatabaseOnce() {
+        // Given
+        String userId = "yooHyeok";
+        given(userAccountRepository.findById(userId)).willReturn(Optional.of(createUserAccount(userId)));
+
+        // When
+        Optional<UserAccountDto> first = sut.searchUser(userId);
+        Optional<UserAccountDto> second = sut.searchUser(userId);
+
+        // Then
+        assertThat(first).isEqualTo(second).get().hasFieldOrPropertyWithValue("userId", userId);
+        then(userAccountRepository).should(times(1)).findById(userId);
+        assertThat(cacheManager.getCache(CacheConfig.USER_ACCOUNTS).get(userId)).isNotNull();
+    }
+
+    @DisplayName("회원 캐시를 무효화하면, 다음 조회는 DB를 다시 조회한다.")
+    @Test
+    void givenCachedUser_whenEvicting_thenQueriesDatabaseAgain() {
+        // Given
+        String userId = "yooHyeok";
+        given(userAccountRepository.findById(userId)).willReturn(Optional.of(createUserAccount(userId)));
+        sut.searchUser(userId);
+
+        // When
+        sut.evictUser(userId);
+        sut.searchUser(userId);
+
+        // Then
+        then(userAccountRepository).should(times(2)).findById(userId);
+    }
+
+    @DisplayName("없는 회원은 캐시하지 않는다.")
+    @Test
+    void givenNonexistentUserId_whenSearching_thenDoesNotCacheEmptyResult() {
+        // Given
+        String userId = "nobody";
+        given(userAccountRepository.findById(userId)).willReturn(Optional.empty());
+
+        // When
+        Optional<UserAccountDto> first = sut.searchUser(userId);
+        sut.searchUser(userId);
+
+        // Then
+        assertThat(first).isEmpty();
+        then(userAccountRepository).should(times(2)).findById(userId);
+    }
+
+    private UserAccount createUserAccount(String userId) {
+        return UserAccount.of(userId, "pw", "webdevyoo@gmail.com", "YooHyeok", null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.service.exporter;
+
+import com.fastcampus.projectboard.config.JpaConfig;
+import com.fastcampus.projectboard.domain.constant.ExportFormat;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("testdb")
+@DisplayName("비즈니스 로직 - 게시글 내보내기")
+@Import({ArticleExportService.class, JpaConfig.class})
+@DataJpaTest
+class ArticleExportServiceTest {
+
+    @Autowired private ArticleExportService sut;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private ArticleCommentRepository articleCommentRepository;
+
+    @DisplayName("NDJSON으로 댓글과 함께 내보내면, 게시글마다 그 게시글의 댓글이 이어진다.")
+    @Test
+    void givenArticlesWithComments_whenExportingNdjson_thenWritesArticleFollowedByItsComments() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // When
+        sut.export(ExportFormat.NDJSON, true, output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize((int) (articleRepository.count() + articleCommentRepository.count()));
+        String currentArticleRef = null;
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            if (row.get("type").asText().equals("article")) {
+                currentArticleRef = row.get("ref").asText();
+                assertThat(row.get("title").asText()).isNotBlank();
+            } else {
+                assertThat(row.get("articleRef").asText()).isEqualTo(currentArticleRef);
+            }
+            assertThat(row.get("userId").asText()).isNotBlank();
+        }
+    }
+
+    @DisplayName("CSV로 댓글 없이 내보내면, 헤더 다음에 게시글 한 줄씩 쓴다.")
+    @Test
+    void givenArticles_whenExportingCsvWithoutComments_thenWritesHeaderAndArticleRows() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        sut.export(ExportFormat.CSV, false, output);
+
+        // Then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("type,id,article_id,user_id,nickname,title,content,hashtag,created_at,modified_at\r\n");
+        assertThat(csv.split("\r\n(?=article,)")).hasSize((int) articleRepository.count() + 1); // 본문의 줄바꿈은 따옴표 안에 있다.
+    }
+
+    @DisplayName("쉼표, 큰따옴표, 줄바꿈이 있는 CSV 값은, 큰따옴표로 감싸고 큰따옴표를 두 번 쓴다.")
+    @Test
+    void givenSpecialCharacters_whenFormattingCsvField_thenQuotes() {
+        // Given & When & Then
+        assertThat(ArticleExportService.csvField(null)).isEmpty();
+        assertThat(ArticleExportService.csvField("plain")).isEqualTo("plain");
+        assertThat(ArticleExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(ArticleExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(ArticleExportService.csvField("line1\nline2")).isEqualTo("\"line1\nline2\"");
+    }
+}
@@ -0,0 +1,148 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.HashtagSort;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.dto.ArticleHashtagDto;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그 사전")
+@ExtendWith(MockitoExtension.class)
+class HashtagDictionaryTest {
+
+    @InjectMocks private HashtagDictionary sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("사전이 만들어지기 전에 조회하면, 빈 Optional을 반환한다.")
+    @Test
+    void givenNotBuilt_whenSearchingHashtags_thenReturnsEmpty() {
+        // Given
+
+        // When & Then
+        assertThat(sut.hashtags(HashtagSort.NAME)).isEmpty();
+    }
+
+    @DisplayName("사전을 만들고 조회하면, 이름순/인기순으로 정렬된 해시태그 리스트를 반환한다.")
+    @Test
+    void givenBuiltDictionary_whenSearchingHashtags_thenReturnsSortedHashtags() {
+        // Given
+        given(articleRepository.findArticleHashtags(anyLong(), anyInt())).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 1L, "#spring"),
+                ArticleHashtagDto.of(2L, 2L, "#java"),
+                ArticleHashtagDto.of(3L, 3L, "#spring"),
+                ArticleHashtagDto.of(4L, 4L, "#boot")
+        ));
+        sut.build();
+
+        // When
+        List<String> byName = sut.hashtags(HashtagSort.NAME).orElseThrow();
+        List<String> byPopularity = sut.hashtags(HashtagSort.POPULAR).orElseThrow();
+
+        // Then
+        assertThat(byName).containsExactly("#boot", "#java", "#spring");
+        assertThat(byPopularity).containsExactly("#spring", "#boot", "#java");
+        assertThat(sut.count("#spring")).isEqualTo(2L);
+        then(articleRepository).should().findArticleHashtags(0L, 1000);
+    }
+
+    @DisplayName("게시글이 생성/수정/삭제되면, 해시태그 별 게시글 수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenSearchingHashtags_thenReflectsChanges() {
+        // Given
+        given(articleRepository.findArticleHashtags(anyLong(), anyInt())).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 1L, "#java"),
+                ArticleHashtagDto.of(2L, 2L, "#spring")
+        ));
+        sut.build();
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 3L, "title", "content #Boot", "#java"));
+        sut.onArticleEvent(ArticleEvent.of(EventType.UPDATED, 2L, "title", "content", "#boot"));
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+
+        // Then
+        assertThat(sut.count("#java")).isEqualTo(1L);
+        assertThat(sut.count("#boot")).isEqualTo(2L); // 본문의 해시태그도 센다.
+        assertThat(sut.hashtags(HashtagSort.NAME).orElseThrow()).containsExactly("#boot", "#java"); // #spring 제거
+    }
+
+    @DisplayName("접두사로 자동완성하면, 접두사로 시작하는 해시태그를 게시글 수 상위 K개만 반환한다.")
+    @Test
+    void givenPrefix_whenSuggesting_thenReturnsTopKHashtagsByArticleCount() {
+        // Given
+        given(articleRepository.findArticleHashtags(anyLong(), anyInt())).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 1L, "#java"),
+                ArticleHashtagDto.of(2L, 1L, "#javascript"),
+                ArticleHashtagDto.of(3L, 2L, "#javascript"),
+                ArticleHashtagDto.of(4L, 3L, "#jpa"),
+                ArticleHashtagDto.of(5L, 3L, "#jakarta"),
+                ArticleHashtagDto.of(6L, 4L, "#spring")
+        ));
+        sut.build();
+
+        // When
+        List<HashtagCountDto> suggestions = sut.suggest("#ja", 2).orElseThrow();
+
+        // Then
+        assertThat(suggestions).containsExactly(
+                HashtagCountDto.of("#javascript", 2L),
+                HashtagCountDto.of("#jakarta", 1L) // 게시글 수가 같으면 이름순
+        );
+    }
+
+    @DisplayName("자동완성 후 게시글이 바뀌면, 접두사 색인을 다시 만들어 반영한다.")
+    @Test
+    void givenArticleEvent_whenSuggestingAgain_thenReflectsChanges() {
+        // Given
+        given(articleRepository.findArticleHashtags(anyLong(), anyInt())).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 1L, "#java")
+        ));
+        sut.build();
+        sut.suggest("#j", 10);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 2L, "#jpa 정리", "content", null));
+
+        // Then
+        assertThat(sut.suggest("#j", 10).orElseThrow()).extracting(HashtagCountDto::hashtag).containsExactly("#java", "#jpa");
+    }
+
+    @DisplayName("사전을 만드는 중에 받은 변경 이벤트는, 생성이 끝난 뒤 순서대로 적용해 이미 읽은 게시글의 삭제를 되돌리지 않는다.")
+    @Test
+    void givenEventsDuringBuild_whenBuilding_thenReplaysEventsAfterBuild() {
+        // Given
+        given(articleRepository.findArticleHashtags(0L, 1000)).willAnswer(invocation -> {
+            List<ArticleHashtagDto> hashtags = List.of( // 삭제 전에 읽은 배치
+                    ArticleHashtagDto.of(1L, 1L, "#java"),
+                    ArticleHashtagDto.of(2L, 2L, "#spring")
+            );
+            sut.onOutboxBatch(OutboxBatch.of(10L, 12L, List.of(
+                    ArticleEvent.deleted(1L),
+                    ArticleEvent.of(EventType.CREATED, 3L, "title", "content", "#jpa")
+            )));
+            return hashtags;
+        });
+
+        // When
+        sut.build();
+
+        // Then
+        assertThat(sut.count("#java")).isZero();
+        assertThat(sut.hashtags(HashtagSort.NAME).orElseThrow()).containsExactly("#jpa", "#spring");
+    }
+}
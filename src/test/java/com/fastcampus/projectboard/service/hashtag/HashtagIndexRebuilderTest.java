@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.config.JpaConfig;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("testdb")
+@DisplayName("비즈니스 로직 - 해시태그 색인 재생성")
+@Import({HashtagIndexRebuilder.class, JpaConfig.class})
+@DataJpaTest
+class HashtagIndexRebuilderTest {
+
+    @Autowired private HashtagIndexRebuilder sut;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private EntityManager entityManager;
+
+    @DisplayName("제목/본문에 #태그가 있는데 해시태그 필드로만 색인된 게시글이 있으면, 엔티티와 같은 규칙으로 다시 색인한다.")
+    @Test
+    void givenArticleIndexedOnlyByHashtagField_whenRebuilding_thenIndexesTitleAndContentHashtags() {
+        // Given
+        entityManager.createNativeQuery("update article set title = 'title #Spring', content = 'content #Boot', hashtag = '#Java' where id = 1")
+                .executeUpdate(); // data.sql 처럼 엔티티를 거치지 않고 바뀐 게시글
+        entityManager.createNativeQuery("delete from article_hashtag where article_id = 1").executeUpdate();
+        entityManager.createNativeQuery("insert into article_hashtag (id, article_id, hashtag_name) values (100000, 1, '#java')").executeUpdate();
+        entityManager.clear();
+
+        // When
+        sut.run(null);
+
+        // Then
+        assertThat(articleRepository.findById(1L).orElseThrow().getHashtags())
+                .containsExactlyInAnyOrder("#java", "#spring", "#boot");
+    }
+}
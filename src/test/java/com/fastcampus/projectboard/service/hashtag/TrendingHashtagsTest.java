@@ -0,0 +1,107 @@
+package com.fastcampus.projectboard.service.hashtag;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.constant.TrendingWindow;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.dto.HashtagCountDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 인기 해시태그")
+class TrendingHashtagsTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final TrendingHashtags sut = new TrendingHashtags(clock);
+
+    @DisplayName("게시글과 댓글에 쓰인 해시태그를 집계하면, 윈도우 별로 많이 쓰인 순서대로 반환한다.")
+    @Test
+    void givenArticleAndCommentEvents_whenRefreshing_thenReturnsTopHashtagsPerWindow() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.of(EventType.CREATED, 1L, "title", "#spring 본문", "#java"));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(EventType.CREATED, 1L, 1L, "#Java 좋아요"));
+        sut.onArticleEvent(ArticleEvent.of(EventType.UPDATED, 1L, "title", "#spring", "#java")); // 수정은 세지 않는다.
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.topHashtags(TrendingWindow.HOUR)).containsExactly(
+                HashtagCountDto.of("#java", 2L),
+                HashtagCountDto.of("#spring", 1L)
+        );
+        assertThat(sut.topHashtags(TrendingWindow.WEEK)).isEqualTo(sut.topHashtags(TrendingWindow.HOUR));
+    }
+
+    @DisplayName("시간이 지나면, 윈도우를 벗어난 버킷은 집계에서 빠진다.")
+    @Test
+    void givenOldUsages_whenRefreshing_thenExcludesBucketsOutsideWindow() {
+        // Given
+        sut.record(Set.of("#old"));
+        clock.advance(Duration.ofHours(2));
+        sut.record(Set.of("#new"));
+        clock.advance(Duration.ofDays(7));
+        sut.record(Set.of("#latest")); // 링 버퍼를 한 바퀴 돌아 같은 자리의 버킷을 교체한다.
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.topHashtags(TrendingWindow.HOUR)).extracting(HashtagCountDto::hashtag).containsExactly("#latest");
+        assertThat(sut.topHashtags(TrendingWindow.WEEK)).extracting(HashtagCountDto::hashtag).containsExactly("#latest");
+    }
+
+    @DisplayName("해시태그가 K개보다 많으면, 상위 K개만 반환한다.")
+    @Test
+    void givenManyHashtags_whenRefreshing_thenKeepsOnlyTopK() {
+        // Given
+        IntStream.rangeClosed(1, TrendingHashtags.TOP_K + 5).forEach(i ->
+                IntStream.rangeClosed(1, i).forEach(count -> sut.record(Set.of("#tag" + i))));
+
+        // When
+        sut.refresh();
+
+        // Then
+        List<HashtagCountDto> top = sut.topHashtags(TrendingWindow.DAY);
+        assertThat(top).hasSize(TrendingHashtags.TOP_K);
+        assertThat(top.get(0)).isEqualTo(HashtagCountDto.of("#tag" + (TrendingHashtags.TOP_K + 5), TrendingHashtags.TOP_K + 5));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
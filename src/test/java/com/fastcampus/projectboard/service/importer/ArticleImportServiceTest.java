@@ -0,0 +1,120 @@
+package com.fastcampus.projectboard.service.importer;
+
+import com.fastcampus.projectboard.config.JpaConfig;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ImportResultDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.UserAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("testdb")
+@DisplayName("비즈니스 로직 - 게시글 일괄 가져오기")
+@Import({ArticleImportService.class, UserAccountService.class, JpaConfig.class})
+@DataJpaTest
+class ArticleImportServiceTest {
+
+    @Autowired private ArticleImportService sut;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private ArticleCommentRepository articleCommentRepository;
+
+    @DisplayName("NDJSON 게시글과 댓글을 가져오면, 묶음 단위로 저장하고 작성자를 기록한다.")
+    @Test
+    void givenArticlesAndComments_whenImporting_thenSavesAll() throws Exception {
+        // Given
+        long previousArticleCount = articleRepository.count();
+        long previousCommentCount = articleCommentRepository.count();
+        String ndjson = """
+                {"type":"article","ref":"a-1","userId":"yooHyeok","title":"imported 1","content":"content 1","hashtag":"#import"}
+                {"type":"article","ref":"a-2","userId":"yooHyeok2","title":"imported 2","content":"content 2","hashtag":"#import"}
+                {"type":"comment","articleRef":"a-1","userId":"yooHyeok2","content":"comment for a-1"}
+                {"type":"comment","articleId":1,"userId":"yooHyeok","content":"comment for article 1"}
+                """;
+
+        // When
+        ImportResultDto result = sut.importFrom(new StringReader(ndjson), 2, 100);
+
+        // Then
+        assertThat(result.articles()).isEqualTo(2);
+        assertThat(result.comments()).isEqualTo(2);
+        assertThat(result.skipped()).isZero();
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount + 2);
+        assertThat(articleCommentRepository.count()).isEqualTo(previousCommentCount + 2);
+        Article imported = articleRepository.findAll().stream()
+                .filter(article -> article.getTitle().equals("imported 2"))
+                .findFirst().orElseThrow();
+        assertThat(imported.getCreatedBy()).isEqualTo("yooHyeok2");
+        assertThat(imported.getHashtags()).containsExactly("#import");
+    }
+
+    @DisplayName("형식이 잘못되었거나 저장할 수 없는 줄은, 건너뛰고 나머지를 가져온다.")
+    @Test
+    void givenInvalidRows_whenImporting_thenSkipsThem() throws Exception {
+        // Given
+        String ndjson = """
+                {"type":"article","ref":"a-1","userId":"yooHyeok","title":"imported","content":"content"}
+                not a json line
+                {"type":"article","userId":"nobody","title":"unknown user","content":"content"}
+                {"type":"article","userId":"yooHyeok","content":"no title"}
+                {"type":"comment","articleRef":"missing","userId":"yooHyeok","content":"unknown article"}
+                {"type":"comment","articleId":0,"userId":"yooHyeok","content":"unknown article"}
+
+                {"type":"comment","articleRef":"a-1","userId":"yooHyeok","content":"ok"}
+                """;
+
+        // When
+        ImportResultDto result = sut.importFrom(new StringReader(ndjson), 3, 100);
+
+        // Then
+        assertThat(result.articles()).isEqualTo(1);
+        assertThat(result.comments()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(5);
+    }
+
+    @DisplayName("컬럼 길이를 넘는 제목/해시태그는, 묶음을 롤백하지 않고 그 줄만 건너뛴다.")
+    @Test
+    void givenTooLongTitleOrHashtag_whenImporting_thenSkipsOnlyThoseRows() throws Exception {
+        // Given
+        String ndjson = """
+                {"type":"article","userId":"yooHyeok","title":"%s","content":"too long title"}
+                {"type":"article","userId":"yooHyeok","title":"too long hashtag","content":"content","hashtag":"%s"}
+                {"type":"article","userId":"yooHyeok","title":"imported","content":"content"}
+                """.formatted("t".repeat(256), "#" + "h".repeat(255));
+
+        // When
+        ImportResultDto result = sut.importFrom(new StringReader(ndjson), 3, 100);
+
+        // Then
+        assertThat(result.articles()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(2);
+    }
+
+    @DisplayName("기억할 ref 수를 넘으면, 가장 오래된 ref 를 잊고 그 ref 를 가리키는 댓글은 건너뛴다.")
+    @Test
+    void givenMoreRefsThanMaxRefs_whenImporting_thenSkipsCommentsOfForgottenRefs() throws Exception {
+        // Given
+        String ndjson = """
+                {"type":"article","ref":"a-1","userId":"yooHyeok","title":"imported 1","content":"content"}
+                {"type":"article","ref":"a-2","userId":"yooHyeok","title":"imported 2","content":"content"}
+                {"type":"comment","articleRef":"a-2","userId":"yooHyeok","content":"remembered"}
+                {"type":"comment","articleRef":"a-1","userId":"yooHyeok","content":"forgotten"}
+                """;
+
+        // When
+        ImportResultDto result = sut.importFrom(new StringReader(ndjson), 10, 1);
+
+        // Then
+        assertThat(result.articles()).isEqualTo(2);
+        assertThat(result.comments()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,278 @@
+package com.fastcampus.projectboard.service.outbox;
+
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - outbox 릴레이")
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private OutboxRelay sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = createRelay(Duration.ofSeconds(5), Duration.ofMinutes(10));
+        given(outboxEventRepository.findLastOffset()).willReturn(Optional.of(10L));
+        given(outboxEventRepository.findIdsGreaterThan(0L)).willReturn(LongStream.rangeClosed(1, 10).boxed().toList());
+        sut.start();
+    }
+
+    @DisplayName("offset 이후의 이벤트를 읽으면, offset 순서대로 한 묶음으로 발행하고 offset 을 옮긴다.")
+    @Test
+    void givenOutboxEvents_whenRelaying_thenPublishesBatchInOrder() {
+        // Given
+        ArticleEvent articleEvent = ArticleEvent.deleted(1L);
+        ArticleCommentEvent articleCommentEvent = ArticleCommentEvent.deleted(2L, 1L);
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, articleEvent),
+                createOutboxEvent(12L, articleCommentEvent)
+        ));
+
+        // When
+        int actual = sut.relayBatch();
+
+        // Then
+        ArgumentCaptor<OutboxBatch> batch = ArgumentCaptor.forClass(OutboxBatch.class);
+        then(eventPublisher).should().publishEvent(batch.capture());
+        assertThat(actual).isEqualTo(2);
+        assertThat(batch.getValue())
+                .hasFieldOrPropertyWithValue("fromOffset", 10L)
+                .hasFieldOrPropertyWithValue("toOffset", 12L);
+        assertThat(batch.getValue().events()).containsExactly(articleEvent, articleCommentEvent);
+        assertThat(sut.offset()).isEqualTo(12L);
+    }
+
+    @DisplayName("빈 offset 이 있으면, gapTimeout 동안은 앞 트랜잭션의 커밋을 기다리며 빈 번호 앞까지만 발행한다.")
+    @Test
+    void givenRecentOffsetGap_whenRelaying_thenWaitsForGap() {
+        // Given
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L)),
+                createOutboxEvent(13L, ArticleEvent.deleted(3L)) // 12 는 아직 커밋 전일 수 있다.
+        ));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any())).willReturn(List.of(
+                createOutboxEvent(13L, ArticleEvent.deleted(3L))
+        ));
+
+        // When
+        int first = sut.relayBatch();
+        int second = sut.relayBatch();
+
+        // Then
+        ArgumentCaptor<OutboxBatch> batch = ArgumentCaptor.forClass(OutboxBatch.class);
+        then(eventPublisher).should().publishEvent(batch.capture());
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(batch.getValue().eventsOf(ArticleEvent.class)).containsExactly(ArticleEvent.deleted(1L));
+        assertThat(sut.offset()).isEqualTo(11L);
+    }
+
+    @DisplayName("gapTimeout 이 지난 빈 offset 은, 건너뛰고 발행한 뒤 다시 조회해 늦게 커밋된 이벤트를 다음 묶음 앞에 발행한다.")
+    @Test
+    void givenStaleOffsetGap_whenRelaying_thenSkipsGapAndDeliversLateCommit() {
+        // Given
+        sut = createRelay(Duration.ZERO, Duration.ofMinutes(10));
+        sut.start();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L)),
+                createOutboxEvent(13L, ArticleEvent.deleted(3L)) // 12 는 오래 걸리는 트랜잭션
+        ));
+        given(outboxEventRepository.findByIdInOrderByIdAsc(List.of(12L))).willReturn(List.of()).willReturn(List.of(
+                createOutboxEvent(12L, ArticleEvent.deleted(2L))
+        ));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(13L), any())).willReturn(List.of());
+
+        // When
+        int first = sut.relayBatch();
+        double pending = registry.get("board.outbox.gaps.pending").gauge().value();
+        sut.relayBatch(); // 12 는 아직 커밋 전
+        int third = sut.relayBatch(); // 12 가 커밋됨
+
+        // Then
+        ArgumentCaptor<OutboxBatch> batch = ArgumentCaptor.forClass(OutboxBatch.class);
+        then(eventPublisher).should(times(2)).publishEvent(batch.capture());
+        assertThat(first).isEqualTo(2);
+        assertThat(pending).isEqualTo(1.0);
+        assertThat(third).isZero();
+        assertThat(batch.getAllValues().get(0).eventsOf(ArticleEvent.class)).containsExactly(ArticleEvent.deleted(1L), ArticleEvent.deleted(3L));
+        assertThat(batch.getAllValues().get(1).eventsOf(ArticleEvent.class)).containsExactly(ArticleEvent.deleted(2L));
+        assertThat(registry.get("board.outbox.gaps.pending").gauge().value()).isZero();
+        assertThat(sut.offset()).isEqualTo(13L);
+    }
+
+    @DisplayName("gapRetention 동안 채워지지 않은 빈 offset 은, 롤백된 것으로 보고 더 이상 조회하지 않는다.")
+    @Test
+    void givenExpiredOffsetGap_whenRelaying_thenAbandonsGap() {
+        // Given
+        sut = createRelay(Duration.ZERO, Duration.ZERO);
+        sut.start();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L)),
+                createOutboxEvent(13L, ArticleEvent.deleted(3L)) // 12 는 롤백
+        ));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(13L), any())).willReturn(List.of());
+
+        // When
+        sut.relayBatch();
+        sut.relayBatch();
+
+        // Then
+        then(outboxEventRepository).should(never()).findByIdInOrderByIdAsc(any());
+        assertThat(registry.get("board.outbox.gaps.abandoned").counter().count()).isEqualTo(1.0);
+        assertThat(sut.offset()).isEqualTo(13L);
+    }
+
+    @DisplayName("기동 시 마지막 offset 이전의 빈 번호는, 아직 커밋 전일 수 있으므로 다시 조회해 커밋되면 발행한다.")
+    @Test
+    void givenGapBeforeStartOffset_whenRelaying_thenDeliversLateCommit() {
+        // Given
+        sut = createRelay(Duration.ofSeconds(5), Duration.ofMinutes(10));
+        given(outboxEventRepository.findIdsGreaterThan(0L)).willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 8L, 9L, 10L));
+        sut.start();
+        given(outboxEventRepository.findByIdInOrderByIdAsc(List.of(7L))).willReturn(List.of(
+                createOutboxEvent(7L, ArticleEvent.deleted(7L))
+        ));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of());
+
+        // When
+        int actual = sut.relayBatch();
+
+        // Then
+        ArgumentCaptor<OutboxBatch> batch = ArgumentCaptor.forClass(OutboxBatch.class);
+        then(eventPublisher).should().publishEvent(batch.capture());
+        assertThat(actual).isZero();
+        assertThat(batch.getValue())
+                .hasFieldOrPropertyWithValue("fromOffset", 10L)
+                .hasFieldOrPropertyWithValue("toOffset", 10L);
+        assertThat(batch.getValue().eventsOf(ArticleEvent.class)).containsExactly(ArticleEvent.deleted(7L));
+    }
+
+    @DisplayName("커밋 후 릴레이를 깨우면, 요청 스레드는 발행을 기다리지 않고 반환하고 릴레이 스레드가 발행한다.")
+    @Test
+    void givenSlowListener_whenWakingUp_thenReturnsWithoutWaitingForPublish() {
+        // Given
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L))
+        ));
+        lenient().when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any())).thenReturn(List.of()); // 발행 중에 온 요청
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await(); // 느린 구독자 (검색 색인 등)
+            return null;
+        }).given(eventPublisher).publishEvent(any(OutboxBatch.class));
+
+        // When
+        sut.wakeUp();
+        sut.wakeUp();
+        long offsetBeforePublish = sut.offset();
+        release.countDown();
+
+        // Then
+        then(eventPublisher).should(timeout(1_000)).publishEvent(any(OutboxBatch.class));
+        assertThat(offsetBeforePublish).isEqualTo(10L);
+        sut.stop();
+    }
+
+    @DisplayName("구독자가 묶음 처리에 실패하면, offset 을 옮기지 않아 다음 주기에 같은 묶음을 다시 발행한다.")
+    @Test
+    void givenFailingListener_whenRelaying_thenKeepsOffset() {
+        // Given
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L))
+        ));
+        willThrow(new IllegalStateException("listener failure")).willDoNothing().given(eventPublisher).publishEvent(any(OutboxBatch.class));
+
+        // When
+        Throwable t = catchThrowable(() -> sut.relayBatch());
+        sut.relayBatch();
+
+        // Then
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        then(outboxEventRepository).should(times(2)).findByIdGreaterThanOrderByIdAsc(eq(10L), any());
+        then(eventPublisher).should(times(2)).publishEvent(any(OutboxBatch.class));
+        assertThat(sut.offset()).isEqualTo(11L);
+    }
+
+    @DisplayName("따라잡은 상태에서 읽으면, 밀린 이벤트를 먼저 발행하고 읽는 동안 커밋된 이벤트가 없을 때만 읽은 값을 적용한다.")
+    @Test
+    void givenCaughtUpRelay_whenReadingCaughtUp_thenAppliesValue() {
+        // Given
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of(
+                createOutboxEvent(11L, ArticleEvent.deleted(1L))
+        ));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any())).willReturn(List.of());
+        List<Long> applied = new ArrayList<>();
+
+        // When
+        boolean actual = sut.readCaughtUp(() -> 42L, applied::add);
+
+        // Then
+        assertThat(actual).isTrue();
+        assertThat(applied).containsExactly(42L);
+        then(eventPublisher).should().publishEvent(any(OutboxBatch.class));
+        assertThat(sut.offset()).isEqualTo(11L);
+    }
+
+    @DisplayName("읽는 동안 발행되지 않은 이벤트가 커밋되면, 읽은 값을 적용하지 않는다.")
+    @Test
+    void givenCommitDuringRead_whenReadingCaughtUp_thenSkipsApply() {
+        // Given
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).willReturn(List.of()) // 릴레이
+                .willReturn(List.of()) // 읽기 전
+                .willReturn(List.of(createOutboxEvent(11L, ArticleEvent.deleted(1L)))); // 읽은 뒤
+        List<Long> applied = new ArrayList<>();
+
+        // When
+        boolean actual = sut.readCaughtUp(() -> 42L, applied::add);
+
+        // Then
+        assertThat(actual).isFalse();
+        assertThat(applied).isEmpty();
+    }
+
+    private OutboxRelay createRelay(Duration gapTimeout, Duration gapRetention) {
+        return new OutboxRelay(new OutboxProperties(10, gapTimeout, gapRetention, Duration.ofDays(7)), outboxEventRepository, eventPublisher);
+    }
+
+    private OutboxEvent createOutboxEvent(Long id, Object event) {
+        OutboxEvent outboxEvent = event instanceof ArticleEvent articleEvent
+                ? OutboxPayload.toOutboxEvent(articleEvent, LocalDateTime.now())
+                : OutboxPayload.toOutboxEvent((ArticleCommentEvent) event, LocalDateTime.now());
+        ReflectionTestUtils.setField(outboxEvent, "id", id);
+        return outboxEvent;
+    }
+}
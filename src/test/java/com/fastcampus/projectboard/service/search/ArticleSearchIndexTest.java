@@ -0,0 +1,86 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.constant.EventType;
+import com.fastcampus.projectboard.domain.event.ArticleEvent;
+import com.fastcampus.projectboard.domain.event.OutboxBatch;
+import com.fastcampus.projectboard.dto.ArticleSearchDocument;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @InjectMocks private ArticleSearchIndex sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("색인을 만드는 중에 받은 변경 이벤트는, 색인이 끝난 뒤 순서대로 적용해 이미 읽은 게시글의 삭제를 되돌리지 않는다.")
+    @Test
+    void givenEventsDuringBuild_whenBuilding_thenReplaysEventsAfterBuild() {
+        // Given
+        given(articleRepository.findSearchDocuments(0L, 1000)).willAnswer(invocation -> {
+            List<ArticleSearchDocument> documents = List.of( // 삭제 전에 읽은 배치
+                    ArticleSearchDocument.of(1L, "spring boot", "content"),
+                    ArticleSearchDocument.of(2L, "spring data", "content")
+            );
+            sut.onOutboxBatch(OutboxBatch.of(10L, 12L, List.of(
+                    ArticleEvent.deleted(1L),
+                    ArticleEvent.of(EventType.CREATED, 3L, "spring security", "content", null)
+            )));
+            return documents;
+        });
+
+        // When
+        sut.build();
+
+        // Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.searchTitle("spring")).hasValue(List.of(2L, 3L));
+    }
+
+    @DisplayName("색인이 만들어진 뒤 받은 변경 이벤트는, 바로 색인에 반영한다.")
+    @Test
+    void givenBuiltIndex_whenReceivingEvents_thenAppliesEvents() {
+        // Given
+        given(articleRepository.findSearchDocuments(0L, 1000)).willReturn(List.of(
+                ArticleSearchDocument.of(1L, "spring boot", "content")
+        ));
+        sut.build();
+
+        // When
+        sut.onOutboxBatch(OutboxBatch.of(10L, 11L, List.of(ArticleEvent.deleted(1L))));
+
+        // Then
+        assertThat(sut.searchTitle("spring")).hasValue(List.of());
+    }
+
+    @DisplayName("후보가 너무 많은 검색어는, IN 조회 대신 DB 검색을 하도록 빈 결과를 반환한다.")
+    @Test
+    void givenTooManyCandidates_whenSearching_thenReturnsEmpty() {
+        // Given
+        List<ArticleSearchDocument> documents = LongStream.rangeClosed(1, ArticleSearchIndex.MAX_CANDIDATES + 1)
+                .mapToObj(id -> ArticleSearchDocument.of(id, "spring boot", "content"))
+                .toList();
+        given(articleRepository.findSearchDocuments(0L, 1000)).willReturn(documents.subList(0, 1000));
+        given(articleRepository.findSearchDocuments(1000L, 1000)).willReturn(documents.subList(1000, documents.size()));
+        sut.build();
+
+        // When
+        Optional<List<Long>> actual = sut.searchTitle("spring");
+
+        // Then
+        assertThat(actual).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 - 역색인")
+class InvertedIndexTest {
+
+    private final InvertedIndex sut = new InvertedIndex(new NGramTokenizer());
+
+    @DisplayName("검색어의 모든 gram을 포함한 문서 ID를 오름차순으로 반환한다.")
+    @Test
+    void givenDocuments_whenSearching_thenReturnsIntersectionOfPostingLists() {
+        // Given
+        sut.put(3L, "Spring Boot and JPA");
+        sut.put(1L, "spring security");
+        sut.put(2L, "Java and Spring, JPA!");
+
+        // When
+        long[] actual = sut.search("jpa SPRING");
+
+        // Then
+        assertThat(actual).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("문서를 다시 색인하면, 이전 내용의 단어로는 더 이상 검색되지 않는다.")
+    @Test
+    void givenReindexedDocument_whenSearchingOldToken_thenReturnsNothing() {
+        // Given
+        sut.put(1L, "old content");
+
+        // When
+        sut.put(1L, "new content");
+
+        // Then
+        assertThat(sut.search("old")).isEmpty();
+        assertThat(sut.search("content")).containsExactly(1L);
+        assertThat(sut.search("new")).containsExactly(1L);
+    }
+
+    @DisplayName("문서를 삭제하면, 검색 결과와 색인에서 제거된다.")
+    @Test
+    void givenDocument_whenRemoving_thenRemovesFromIndex() {
+        // Given
+        sut.put(1L, "hello world");
+        sut.put(2L, "hello java");
+
+        // When
+        sut.remove(1L);
+
+        // Then
+        assertThat(sut.search("hello")).containsExactly(2L);
+        assertThat(sut.search("world")).isEmpty();
+        assertThat(sut.documentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("한글 복합어의 일부로 검색하면, 해당 문서를 찾는다.")
+    @Test
+    void givenKoreanCompound_whenSearchingPartOfIt_thenReturnsDocument() {
+        // Given
+        sut.put(1L, "스프링부트 게시판 만들기");
+        sut.put(2L, "자바 게시글");
+
+        // When & Then
+        assertThat(sut.search("부트")).containsExactly(1L);
+        assertThat(sut.search("프링부트")).containsExactly(1L);
+        assertThat(sut.search("게시")).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("gram을 추출할 수 없는 검색어는 null을 반환한다. (색인으로 답할 수 없음)")
+    @Test
+    void givenQueryWithoutTokens_whenSearching_thenReturnsNull() {
+        // Given
+        sut.put(1L, "hello");
+
+        // When
+        long[] actual = sut.search("a ! 글");
+
+        // Then
+        assertThat(actual).isNull();
+    }
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 - n-gram 토크나이저")
+class NGramTokenizerTest {
+
+    private final NGramTokenizer sut = new NGramTokenizer();
+
+    @DisplayName("문서를 색인하면, 문자 종류별 구간마다 bigram과 trigram을 만든다.")
+    @Test
+    void givenMixedText_whenTokenizing_thenReturnsBigramsAndTrigramsPerRun() {
+        // Given
+        String text = "게시판Java21";
+
+        // When & Then
+        assertThat(sut.tokenize(text)).containsExactlyInAnyOrder(
+                "게시", "시판", "게시판",
+                "ja", "av", "va", "jav", "ava",
+                "21"
+        );
+    }
+
+    @DisplayName("검색어를 분해하면, 길이 3 이상의 구간은 trigram만 사용한다.")
+    @Test
+    void givenQuery_whenTokenizingQuery_thenPrefersTrigrams() {
+        // Given
+        String query = "스프링 JPA 글 db";
+
+        // When & Then
+        assertThat(sut.tokenizeQuery(query)).containsExactly("스프링", "jpa", "db");
+    }
+
+    @DisplayName("한 글자 구간만 있는 검색어는 토큰을 만들지 않는다.")
+    @Test
+    void givenSingleCharacterQuery_whenTokenizingQuery_thenReturnsEmpty() {
+        // Given
+        String query = "글 a 1";
+
+        // When & Then
+        assertThat(sut.tokenizeQuery(query)).isEmpty();
+        assertThat(sut.tokenize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,168 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ArticleComment;
+import com.fastcampus.projectboard.domain.WriteBehindCheckpoint;
+import com.fastcampus.projectboard.domain.event.ArticleCommentEvent;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.UserAccountService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 댓글 write-behind")
+@MockitoSettings(strictness = Strictness.LENIENT) // 작업 스레드에서 호출되는 stub 이 테스트마다 다르다.
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentWriteBehindTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private UserAccountService userAccountService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private EntityManager entityManager;
+
+    @TempDir Path directory;
+    private ArticleCommentWriteBehind sut;
+
+    @BeforeEach
+    void setUp() {
+        UserAccountDto user = createUserAccountDto();
+        given(userAccountService.searchUser(user.userId())).willReturn(Optional.of(user));
+        given(articleRepository.getReferenceById(any())).willReturn(Article.of(user.toEntity(), "title", "content", "#java"));
+        given(userAccountRepository.getReferenceById(user.userId())).willReturn(user.toEntity());
+        given(articleCommentRepository.save(any(ArticleComment.class))).will(returnsFirstArg());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sut.stop();
+    }
+
+    @DisplayName("댓글을 제출하면, 묶어서 저장하고 없는 게시글의 댓글은 건너뛴 뒤 저널을 비운다.")
+    @Test
+    void givenSubmittedComments_whenWorkerFlushes_thenSavesInBatchAndTruncatesJournal() throws Exception {
+        // Given
+        sut = createWriteBehind(100);
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(articleRepository.findArticleIds(anyCollection())).willReturn(List.of(1L));
+        sut.start();
+
+        // When
+        sut.submit(ArticleCommentDto.of(1L, createUserAccountDto(), "first"));
+        sut.submit(ArticleCommentDto.of(1L, createUserAccountDto(), "second"));
+        sut.submit(ArticleCommentDto.of(99L, createUserAccountDto(), "no article"));
+        sut.stop(); // 큐에 남은 댓글을 모두 저장하고 끝낸다.
+
+        // Then
+        then(articleCommentRepository).should(times(2)).save(any(ArticleComment.class));
+        then(eventPublisher).should(times(2)).publishEvent(any(ArticleCommentEvent.class));
+        then(entityManager).should(atLeastOnce()).clear();
+        assertThat(Files.size(directory.resolve("journal.ndjson"))).isZero();
+    }
+
+    @DisplayName("큐가 가득 차면, offerTimeout 만큼 기다린 뒤 댓글을 거절하고 거절 수를 기록한다.")
+    @Test
+    void givenFullQueue_whenSubmitting_thenRejectsComment() throws Exception {
+        // Given
+        sut = createWriteBehind(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            flushing.countDown();
+            release.await(); // DB 저장이 느린 상황
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        sut.start();
+        sut.submit(ArticleCommentDto.of(1L, createUserAccountDto(), "first"));
+        flushing.await();
+
+        // When
+        Throwable t = catchThrowable(() -> sut.submit(ArticleCommentDto.of(1L, createUserAccountDto(), "second")));
+        List<String> journal = Files.readAllLines(directory.resolve("journal.ndjson"));
+        release.countDown();
+
+        // Then
+        assertThat(t).isInstanceOf(CommentQueueFullException.class);
+        assertThat(registry.get("board.comments.write-behind.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(journal).hasSize(1); // 거절된 댓글은 저널에 남지 않는다.
+    }
+
+    @DisplayName("커밋 뒤 저널 체크포인트를 쓰기 전에 죽었다면, 기동 시 DB 체크포인트까지의 댓글은 다시 저장하지 않는다.")
+    @Test
+    void givenSavedCheckpointAheadOfJournal_whenStarting_thenSkipsAlreadySavedComments() throws Exception {
+        // Given
+        try (CommentJournal journal = CommentJournal.open(directory.resolve("journal.ndjson"))) {
+            journal.append(1L, "yooHyeok", "saved");
+            journal.append(1L, "yooHyeok", "not saved");
+        }
+        given(entityManager.find(eq(WriteBehindCheckpoint.class), anyString())).will(invocation -> WriteBehindCheckpoint.of(invocation.getArgument(1), 1L));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(articleRepository.findArticleIds(anyCollection())).willReturn(List.of(1L));
+        sut = createWriteBehind(100);
+
+        // When
+        sut.start();
+
+        // Then
+        then(articleCommentRepository).should().save(argThat(comment -> comment.getContent().equals("not saved")));
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
+        then(entityManager).should().merge(argThat(checkpoint -> checkpoint instanceof WriteBehindCheckpoint saved && saved.getSeq() == 2L));
+        assertThat(Files.size(directory.resolve("journal.ndjson"))).isZero();
+    }
+
+    private ArticleCommentWriteBehind createWriteBehind(int capacity) {
+        WriteBehindProperties properties = new WriteBehindProperties(
+                true, capacity, 10, Duration.ofMillis(10), Duration.ofMillis(50), directory.resolve("journal.ndjson")
+        );
+        return new ArticleCommentWriteBehind(
+                properties, articleRepository, articleCommentRepository, userAccountRepository,
+                userAccountService, eventPublisher, transactionTemplate, entityManager
+        );
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("yooHyeok", "123qwe", "webdevyoo@gmail.com", "YooHyeokSchool", "I am YooHyeok.");
+    }
+}
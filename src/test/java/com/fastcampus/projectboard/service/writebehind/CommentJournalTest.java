@@ -0,0 +1,151 @@
+package com.fastcampus.projectboard.service.writebehind;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("댓글 write-behind 저널")
+class CommentJournalTest {
+
+    @TempDir Path directory;
+
+    @DisplayName("체크포인트 이후에 기록된 댓글은, 저널을 다시 열면 저장할 댓글로 읽힌다.")
+    @Test
+    void givenCheckpointedJournal_whenReopening_thenReturnsCommentsAfterCheckpoint() throws Exception {
+        // Given
+        Path path = directory.resolve("journal.ndjson");
+        try (CommentJournal journal = CommentJournal.open(path)) {
+            journal.append(1L, "yooHyeok", "first");
+            journal.append(1L, "yooHyeok", "second");
+            journal.append(2L, "yooHyeok2", "third");
+            journal.checkpoint(2);
+        }
+        Files.writeString(path, "{\"seq\":4,\"articleId\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND); // 기록 도중 죽어서 잘린 줄
+
+        // When
+        try (CommentJournal reopened = CommentJournal.open(path)) {
+
+            // Then
+            assertThat(reopened.pending()).containsExactly(PendingComment.of(3, 2L, "yooHyeok2", "third"));
+        }
+    }
+
+    @DisplayName("기록한 댓글이 모두 저장되면, 저널을 비우고 seq 는 이어서 증가한다.")
+    @Test
+    void givenAllCommentsCheckpointed_whenAppending_thenTruncatesJournalAndContinuesSequence() throws Exception {
+        // Given
+        Path path = directory.resolve("journal.ndjson");
+        try (CommentJournal journal = CommentJournal.open(path)) {
+            journal.append(1L, "yooHyeok", "first");
+            journal.append(1L, "yooHyeok", "second");
+
+            // When
+            journal.checkpoint(2);
+
+            // Then
+            assertThat(Files.size(path)).isZero();
+        }
+        try (CommentJournal reopened = CommentJournal.open(path)) {
+            assertThat(reopened.pending()).isEmpty();
+            assertThat(reopened.append(1L, "yooHyeok", "third").seq()).isEqualTo(3);
+        }
+    }
+
+    @DisplayName("동시에 기록한 댓글은, 묶어서 동기화하고 seq 순서대로 넘긴다.")
+    @Test
+    void givenConcurrentAppends_whenSyncing_thenDeliversEveryCommentOnceInSequenceOrder() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 50;
+        List<PendingComment> synced = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        try (CommentJournal journal = CommentJournal.open(directory.resolve("journal.ndjson"))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    for (int j = 0; j < perThread; j++) {
+                        journal.sync(journal.append(1L, "yooHyeok", "comment").seq(), synced::addAll);
+                    }
+                    return null;
+                }));
+            }
+
+            // When
+            ready.countDown();
+            for (Future<?> future : futures) { future.get(10, TimeUnit.SECONDS); }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(synced).extracting(PendingComment::seq)
+                .containsExactlyElementsOf(Stream.iterate(1L, seq -> seq + 1).limit((long) threads * perThread).toList());
+    }
+
+    @DisplayName("저널 파일이 segmentSize 를 넘으면 새 파일에 이어 쓰고, 체크포인트가 지난 파일은 지운다.")
+    @Test
+    void givenFullSegment_whenCheckpointing_thenRotatesAndDeletesSavedSegments() throws Exception {
+        // Given
+        Path path = directory.resolve("journal.ndjson");
+        try (CommentJournal journal = CommentJournal.open(path, 1)) { // 댓글마다 새 파일
+            for (int i = 0; i < 3; i++) {
+                journal.sync(journal.append(1L, "yooHyeok", "comment" + i).seq(), comments -> {});
+            }
+            journal.sync(journal.append(1L, "yooHyeok", "last").seq(), comments -> {});
+            assertThat(Files.exists(directory.resolve("journal.ndjson.1"))).isTrue();
+
+            // When
+            journal.checkpoint(2);
+
+            // Then
+            assertThat(Files.exists(directory.resolve("journal.ndjson.1"))).isFalse();
+            assertThat(Files.exists(directory.resolve("journal.ndjson.2"))).isFalse();
+            assertThat(Files.exists(directory.resolve("journal.ndjson.3"))).isTrue();
+        }
+        try (CommentJournal reopened = CommentJournal.open(path, 1)) {
+            assertThat(reopened.pending()).extracting(PendingComment::seq).containsExactly(3L, 4L);
+        }
+    }
+
+    @DisplayName("DB 체크포인트가 저널 체크포인트보다 앞서 있으면, 이미 저장된 댓글은 건너뛰고 seq 는 그 뒤부터 이어진다.")
+    @Test
+    void givenSavedCheckpointAhead_whenRecovering_thenSkipsSavedComments() throws Exception {
+        // Given
+        Path path = directory.resolve("journal.ndjson");
+        try (CommentJournal journal = CommentJournal.open(path)) {
+            journal.append(1L, "yooHyeok", "first");
+            journal.append(1L, "yooHyeok", "second");
+            journal.append(1L, "yooHyeok", "third");
+        } // 커밋 뒤 체크포인트 파일을 쓰기 전에 죽은 상황
+
+        try (CommentJournal reopened = CommentJournal.open(path)) {
+            // When
+            List<PendingComment> pending = reopened.recover(2);
+
+            // Then
+            assertThat(pending).containsExactly(PendingComment.of(3, 1L, "yooHyeok", "third"));
+        }
+        try (CommentJournal reopened = CommentJournal.open(path)) {
+            assertThat(reopened.recover(0)).extracting(PendingComment::seq).containsExactly(3L);
+            assertThat(reopened.recover(5)).isEmpty();
+            assertThat(reopened.append(1L, "yooHyeok", "fourth").seq()).isEqualTo(6);
+        }
+    }
+}